@@ -1,3 +1,5 @@
 #!/bin/sh
 
-java -jar target/perf.jar ".*" -wi 7 -i 7 -f 3 -t 2
+# Cold-start tests need their own settings (see run-cold-start.sh), which
+# options here would override, so exclude them
+java -jar target/perf.jar "^(?!.*\.coldstart\.).*" -wi 7 -i 7 -f 3 -t 2
@@ -0,0 +1,4 @@
+#!/bin/sh
+
+# Each fork only measures a single (first) operation, so use plenty of forks
+java -Xmx256m -jar target/perf.jar ".*ColdStart.*" -prof cl -f 20 $*
@@ -0,0 +1,5 @@
+#!/bin/sh
+
+# Runs given benchmarks on all JDKs found, with all garbage collectors and given heap sizes;
+# for example: ./run-jvm-matrix.sh "JsonStdReadVanilla.readPojoMediaItem" -heaps 256m,2g
+java -cp target/perf.jar com.fasterxml.jackson.perf.jvm.JvmMatrixRunner -jdks auto $* -wi 4 -w 1 -i 5 -r 1 -f 1
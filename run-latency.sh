@@ -0,0 +1,3 @@
+#!/bin/sh
+
+java -Xmx256m -jar target/perf.jar ".*Std(Read|Write)Latency.*" -wi 4 -w 1 -i 5 -r 1 -f 3 -t 1 -rf json
@@ -0,0 +1,4 @@
+#!/bin/sh
+
+# First (optional) argument is the maximum thread count; defaults to number of cores
+java -Xmx256m -cp target/perf.jar com.fasterxml.jackson.perf.concurrent.ThreadScalingRunner $* ".*BufferRecyclerReadWrite.*" -prof gc -wi 4 -w 1 -i 5 -r 1 -f 1
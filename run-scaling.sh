@@ -0,0 +1,4 @@
+#!/bin/sh
+
+# Larger heap needed for 100k element MediaItems
+java -Xmx1g -jar target/perf.jar ".*MediaItemScaling.*" -wi 4 -w 1 -i 5 -r 1 -f 3 -t 1 -rf json $*
@@ -0,0 +1,4 @@
+#!/bin/sh
+
+# Type resolution with different TypeFactory caches, shared by 1 - 64 threads
+java -cp target/perf.jar com.fasterxml.jackson.perf.concurrent.ThreadScalingRunner 64 "JavaTypeResolution.(resolveArrayList|constructSpecializedType)" $* -wi 4 -w 1 -i 5 -r 1 -f 1
@@ -0,0 +1,4 @@
+#!/bin/sh
+
+# Needs JDK 21 and jar built with "mvn -Pjdk21 package"
+java -Xmx256m -jar target/perf-jdk21.jar ".*vthreads.*" -prof gc -wi 4 -w 1 -i 5 -r 1 -f 3 -t 1
@@ -0,0 +1,43 @@
+package com.fasterxml.jackson.perf;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Container for additional state: amount of input read / output written,
+ * in megabytes (10^6 bytes).
+ * Notes
+ *<ul>
+ * <li>Type is {@code OPERATIONS} so that value is normalized the same way as
+ *  the primary result: with default {@code ops/s} units this means MB/s
+ *  (even if JMH still displays units as {@code ops/s}).
+ *  </li>
+ * <li>Counter needs to be reset before each iteration.
+ *  </li>
+ *</ul>
+ *
+ * @see AuxStateSize
+ */
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+@State(Scope.Thread)
+public class AuxStateThroughput
+{
+    private final static double BYTES_PER_MB = 1000.0 * 1000.0;
+
+    /**
+     * Megabytes processed during current iteration
+     */
+    public double mb;
+
+    @Setup(Level.Iteration)
+    public void clearSize() {
+        mb = 0.0;
+    }
+
+    public void add(long bytes) {
+        mb += bytes / BYTES_PER_MB;
+    }
+}
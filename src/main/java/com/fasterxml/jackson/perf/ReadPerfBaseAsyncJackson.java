@@ -0,0 +1,230 @@
+package com.fasterxml.jackson.perf;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.perf.data.InputConverter;
+import com.fasterxml.jackson.perf.data.InputData;
+import com.fasterxml.jackson.perf.model.MediaItem;
+
+/**
+ * Base class for non-blocking (async) parsing tests that, unlike
+ * {@code JsonStdReadAsync}, feed content in chunks of {@code chunkSize} bytes,
+ * feeding more whenever parser returns {@link JsonToken#NOT_AVAILABLE}
+ * (as with content read from network).
+ *<p>
+ * Data-binding can not be done directly from non-blocking parsers, so
+ * tokens are first buffered in a {@link TokenBuffer}, which is then bound.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public abstract class ReadPerfBaseAsyncJackson
+{
+    public enum FeederType {
+        BYTE_ARRAY {
+            @Override
+            public JsonParser createParser(JsonFactory f) throws IOException {
+                return f.createNonBlockingByteArrayParser();
+            }
+
+            @Override
+            public void feed(JsonParser p, byte[] input, ByteBuffer inputBuffer, int start, int end)
+                throws IOException
+            {
+                ((ByteArrayFeeder) p.getNonBlockingInputFeeder()).feedInput(input, start, end);
+            }
+        },
+        /**
+         * Feeding from a (direct) {@link ByteBuffer} with same contents
+         */
+        BYTE_BUFFER {
+            @Override
+            public JsonParser createParser(JsonFactory f) throws IOException {
+                return f.createNonBlockingByteBufferParser();
+            }
+
+            @Override
+            public void feed(JsonParser p, byte[] input, ByteBuffer inputBuffer, int start, int end)
+                throws IOException
+            {
+                // safe to reuse buffer: parser only asks for more once it has consumed all
+                // (casts to Buffer to link to Java 8 methods, not covariant overrides of 9+)
+                ((Buffer) inputBuffer).limit(end);
+                ((Buffer) inputBuffer).position(start);
+                ((ByteBufferFeeder) p.getNonBlockingInputFeeder()).feedInput(inputBuffer);
+            }
+        },
+        ;
+
+        public abstract JsonParser createParser(JsonFactory f) throws IOException;
+
+        public abstract void feed(JsonParser p, byte[] input, ByteBuffer inputBuffer, int start, int end)
+            throws IOException;
+    }
+
+    @Param({"16", "256", "1024", "4096", "16384", "65536"})
+    public int chunkSize;
+
+    protected final JsonFactory _factory;
+
+    protected final ObjectReader MEDIA_ITEM_READER;
+
+    protected final ObjectReader UNTYPED_READER;
+
+    protected final byte[] _mediaItem;
+
+    protected final byte[] _citmCatalog;
+
+    protected ByteBuffer _mediaItemBuffer;
+
+    protected ByteBuffer _citmCatalogBuffer;
+
+    protected ReadPerfBaseAsyncJackson(ObjectMapper mapper)
+    {
+        _factory = mapper.getFactory();
+        MEDIA_ITEM_READER = mapper.readerFor(MediaItem.class);
+        UNTYPED_READER = mapper.readerFor(Object.class);
+        InputConverter conv = InputConverter.stdConverter(mapper);
+        _mediaItem = conv.mediaItemAsBytes();
+        _citmCatalog = conv.bytes(InputData.CITM_CATALOG_WS);
+    }
+
+    @Setup
+    public void setupBuffers() {
+        _mediaItemBuffer = _directCopy(_mediaItem);
+        _citmCatalogBuffer = _directCopy(_citmCatalog);
+    }
+
+    /**
+     * Method for choosing the kind of feeder to use
+     */
+    protected abstract FeederType feeder();
+
+    /*
+    /**********************************************************************
+    /* Streaming (token) tests
+    /**********************************************************************
+     */
+
+    @Benchmark
+    public void readTokensMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        _count(_mediaItem, size, rate);
+        bh.consume(readAll(_mediaItem, _mediaItemBuffer, null));
+    }
+
+    @Benchmark
+    public void readTokensCitmCatalog(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        _count(_citmCatalog, size, rate);
+        bh.consume(readAll(_citmCatalog, _citmCatalogBuffer, null));
+    }
+
+    /*
+    /**********************************************************************
+    /* Data-binding (via TokenBuffer) tests
+    /**********************************************************************
+     */
+
+    @Benchmark
+    public void readPojoMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        _count(_mediaItem, size, rate);
+        bh.consume(readAndBind(_mediaItem, _mediaItemBuffer, MEDIA_ITEM_READER));
+    }
+
+    @Benchmark
+    public void readUntypedCitmCatalog(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        _count(_citmCatalog, size, rate);
+        bh.consume(readAndBind(_citmCatalog, _citmCatalogBuffer, UNTYPED_READER));
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper methods
+    /**********************************************************************
+     */
+
+    protected Object readAndBind(byte[] input, ByteBuffer inputBuffer, ObjectReader reader)
+        throws IOException
+    {
+        TokenBuffer tokens = new TokenBuffer(null, false);
+        readAll(input, inputBuffer, tokens);
+        try (JsonParser p = tokens.asParser()) {
+            return reader.readValue(p);
+        }
+    }
+
+    /**
+     * Method that feeds all of input, chunk by chunk, reading all tokens
+     * and optionally copying them to given {@link TokenBuffer}.
+     *
+     * @return Number of tokens read
+     */
+    protected int readAll(byte[] input, ByteBuffer inputBuffer, TokenBuffer tokens)
+        throws IOException
+    {
+        final FeederType feeder = feeder();
+        final int end = input.length;
+        int offset = 0;
+        int count = 0;
+        try (JsonParser p = feeder.createParser(_factory)) {
+            JsonToken t;
+            while ((t = p.nextToken()) != null) {
+                if (t == JsonToken.NOT_AVAILABLE) {
+                    if (offset < end) {
+                        int chunkEnd = Math.min(end, offset + chunkSize);
+                        feeder.feed(p, input, inputBuffer, offset, chunkEnd);
+                        offset = chunkEnd;
+                    } else {
+                        p.getNonBlockingInputFeeder().endOfInput();
+                    }
+                    continue;
+                }
+                ++count;
+                if (tokens != null) {
+                    tokens.copyCurrentEvent(p);
+                }
+            }
+        }
+        return count;
+    }
+
+    private void _count(byte[] input, AuxStateSize size, AuxStateThroughput rate) {
+        size.set(input.length);
+        rate.add(input.length);
+    }
+
+    private static ByteBuffer _directCopy(byte[] input) {
+        ByteBuffer buf = ByteBuffer.allocateDirect(input.length);
+        buf.put(input);
+        ((Buffer) buf).flip();
+        return buf;
+    }
+}
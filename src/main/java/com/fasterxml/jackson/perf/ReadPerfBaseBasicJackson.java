@@ -14,6 +14,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.perf.data.MinimalInputConverter;
 
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
 public abstract class ReadPerfBaseBasicJackson<T>
 	implements ReadPerfTestBasic
 {
@@ -44,15 +46,11 @@ public abstract class ReadPerfBaseBasicJackson<T>
      */
 
     @Benchmark
-    @BenchmarkMode(Mode.Throughput)
-    @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readPojoMediaItem(Blackhole bh/*, AuxStateSize size*/)
+    public void readPojoMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
         throws Exception
     {
-        final byte[] input = MINIMAL_CONV.mediaItemAsBytes();
-//        size.set(input.length);
-        bh.consume(read(input, MEDIA_ITEM_READER));
+        readAndCount(bh, MINIMAL_CONV.mediaItemAsBytes(), MEDIA_ITEM_READER, size, rate);
     }
 
     /*
@@ -64,4 +62,16 @@ public abstract class ReadPerfBaseBasicJackson<T>
     protected Object read(byte[] input, ObjectReader reader) throws IOException {
         return reader.readValue(input);
     }
+
+    /**
+     * Helper method that reads given input and also records its size
+     * (bytes per operation and MB/s) for reporting.
+     */
+    protected void readAndCount(Blackhole bh, byte[] input, ObjectReader reader,
+            AuxStateSize size, AuxStateThroughput rate) throws IOException
+    {
+        size.set(input.length);
+        rate.add(input.length);
+        bh.consume(read(input, reader));
+    }
 }
@@ -3,6 +3,8 @@ package com.fasterxml.jackson.perf;
 import java.util.concurrent.TimeUnit;
 
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.infra.Blackhole;
 
@@ -12,7 +14,10 @@ import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.perf.data.InputConverter;
 import com.fasterxml.jackson.perf.data.InputData;
 import com.fasterxml.jackson.perf.model.Currency;
+import com.fasterxml.jackson.perf.model.PrimitiveCurrency;
 
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
 public abstract class ReadPerfBaseFullJackson<T>
 	extends ReadPerfBaseBasicJackson<T>
 	implements ReadPerfTestFull
@@ -25,6 +30,9 @@ public abstract class ReadPerfBaseFullJackson<T>
     protected final ObjectReader CURRENCY_READER_DEFAULT;
     protected final ObjectReader CURRENCY_READER_FAST;
 
+    protected final ObjectReader PRIMITIVE_CURRENCY_READER_DEFAULT;
+    protected final ObjectReader PRIMITIVE_CURRENCY_READER_FAST;
+
     protected ReadPerfBaseFullJackson(Class<T> type, InputConverter conv, ObjectMapper mapper)
     {
         this(type, conv, mapper, null);
@@ -62,6 +70,13 @@ public abstract class ReadPerfBaseFullJackson<T>
             r = r.with(schema);
         }
         CURRENCY_READER_FAST = r;
+
+        r = mapper.readerFor(PrimitiveCurrency.class);
+        if (schema != null) {
+            r = r.with(schema);
+        }
+        PRIMITIVE_CURRENCY_READER_DEFAULT = r;
+        PRIMITIVE_CURRENCY_READER_FAST = r.with(StreamReadFeature.USE_FAST_DOUBLE_PARSER);
     }
 
     /*
@@ -71,17 +86,37 @@ public abstract class ReadPerfBaseFullJackson<T>
      */
     
     @Benchmark
-    @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readCurrencyPojoDefault(Blackhole bh/*, AuxStateSize size*/) throws Exception {
-        bh.consume(read(FULL_CONVERTER.bytes(InputData.CURRENCY_WS), CURRENCY_READER_DEFAULT));
+    public void readCurrencyPojoDefault(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, FULL_CONVERTER.bytes(InputData.CURRENCY_WS), CURRENCY_READER_DEFAULT, size, rate);
+    }
+
+    @Benchmark
+    @Override
+    public void readCurrencyPojoFast(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, FULL_CONVERTER.bytes(InputData.CURRENCY_WS), CURRENCY_READER_FAST, size, rate);
+    }
+
+    // Same content as "readCurrencyPojoXxx" but read into unboxed rates
+
+    @Benchmark
+    @Override
+    public void readCurrencyPrimitiveDefault(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, FULL_CONVERTER.bytes(InputData.CURRENCY_WS), PRIMITIVE_CURRENCY_READER_DEFAULT, size, rate);
     }
 
     @Benchmark
-    @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readCurrencyPojoFast(Blackhole bh/*, AuxStateSize size*/) throws Exception {
-        bh.consume(read(FULL_CONVERTER.bytes(InputData.CURRENCY_WS), CURRENCY_READER_FAST));
+    public void readCurrencyPrimitiveFast(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, FULL_CONVERTER.bytes(InputData.CURRENCY_WS), PRIMITIVE_CURRENCY_READER_FAST, size, rate);
     }
     
     /*
@@ -91,31 +126,35 @@ public abstract class ReadPerfBaseFullJackson<T>
      */
 
     @Benchmark
-    @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readUntypedCitmCatalog(Blackhole bh) throws Exception {
-        bh.consume(read(FULL_CONVERTER.bytes(InputData.CITM_CATALOG_WS), UNTYPED_READER));
+    public void readUntypedCitmCatalog(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, FULL_CONVERTER.bytes(InputData.CITM_CATALOG_WS), UNTYPED_READER, size, rate);
     }
 
     @Benchmark
-    @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readUntypedWebxml(Blackhole bh) throws Exception {
-        bh.consume(read(FULL_CONVERTER.bytes(InputData.WEBXML_WS), UNTYPED_READER));
+    public void readUntypedWebxml(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, FULL_CONVERTER.bytes(InputData.WEBXML_WS), UNTYPED_READER, size, rate);
     }
 
     @Benchmark
-    @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readUntypedMenu(Blackhole bh) throws Exception {
-        bh.consume(read(FULL_CONVERTER.bytes(InputData.MENU_WS), UNTYPED_READER));
+    public void readUntypedMenu(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, FULL_CONVERTER.bytes(InputData.MENU_WS), UNTYPED_READER, size, rate);
     }
 
     @Benchmark
-    @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readUntypedMediaItem(Blackhole bh) throws Exception {
-        bh.consume(read(FULL_CONVERTER.mediaItemAsBytes(), UNTYPED_READER));
+    public void readUntypedMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, FULL_CONVERTER.mediaItemAsBytes(), UNTYPED_READER, size, rate);
     }
 
     /*
@@ -125,30 +164,34 @@ public abstract class ReadPerfBaseFullJackson<T>
      */
 
     @Benchmark
-    @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readNodeCitmCatalog(Blackhole bh) throws Exception {
-        bh.consume(read(FULL_CONVERTER.bytes(InputData.CITM_CATALOG_WS), NODE_READER));
+    public void readNodeCitmCatalog(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, FULL_CONVERTER.bytes(InputData.CITM_CATALOG_WS), NODE_READER, size, rate);
     }
 
     @Benchmark
-    @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readNodeWebxml(Blackhole bh) throws Exception {
-        bh.consume(read(FULL_CONVERTER.bytes(InputData.WEBXML_WS), NODE_READER));
+    public void readNodeWebxml(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, FULL_CONVERTER.bytes(InputData.WEBXML_WS), NODE_READER, size, rate);
     }
 
     @Benchmark
-    @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readNodeMenu(Blackhole bh) throws Exception {
-        bh.consume(read(FULL_CONVERTER.bytes(InputData.MENU_WS), NODE_READER));
+    public void readNodeMenu(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, FULL_CONVERTER.bytes(InputData.MENU_WS), NODE_READER, size, rate);
     }
 
     @Benchmark
-    @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readNodeMediaItem(Blackhole bh) throws Exception {
-        bh.consume(read(FULL_CONVERTER.mediaItemAsBytes(), NODE_READER));
+    public void readNodeMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, FULL_CONVERTER.mediaItemAsBytes(), NODE_READER, size, rate);
     }
 }
@@ -4,6 +4,6 @@ import org.openjdk.jmh.infra.Blackhole;
 
 public interface ReadPerfTestBasic
 {
-    public void readPojoMediaItem(Blackhole bh/*, AuxStateSize size*/)
+    public void readPojoMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
         throws Exception;
 }
@@ -4,16 +4,30 @@ import org.openjdk.jmh.infra.Blackhole;
 
 public interface ReadPerfTestFull extends ReadPerfTestBasic
 {
-    public void readUntypedCitmCatalog(Blackhole bh) throws Exception;
-    public void readUntypedWebxml(Blackhole bh) throws Exception;
-    public void readUntypedMenu(Blackhole bh) throws Exception;
-    public void readUntypedMediaItem(Blackhole bh) throws Exception;
+    public void readUntypedCitmCatalog(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
+    public void readUntypedWebxml(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
+    public void readUntypedMenu(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
+    public void readUntypedMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
 
-    public void readNodeCitmCatalog(Blackhole bh) throws Exception;
-    public void readNodeWebxml(Blackhole bh) throws Exception;
-    public void readNodeMenu(Blackhole bh) throws Exception;
-    public void readNodeMediaItem(Blackhole bh) throws Exception;
+    public void readNodeCitmCatalog(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
+    public void readNodeWebxml(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
+    public void readNodeMenu(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
+    public void readNodeMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
 
-    public void readCurrencyPojoDefault(Blackhole bh) throws Exception;
-    public void readCurrencyPojoFast(Blackhole bh) throws Exception;
+    public void readCurrencyPojoDefault(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
+    public void readCurrencyPojoFast(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
+    public void readCurrencyPrimitiveDefault(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
+    public void readCurrencyPrimitiveFast(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
 }
@@ -0,0 +1,40 @@
+package com.fasterxml.jackson.perf;
+
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+/**
+ * Helper for {@code EVENTS} type {@link org.openjdk.jmh.annotations.AuxCounters}
+ * states that report a value (like size of something) that must not be
+ * accumulated over invocations and iterations: value is only to be set once,
+ * during the first measurement iteration, same as with {@link AuxStateSize}.
+ *<p>
+ * Counter state needs to call {@link #nextIteration} from its
+ * {@code @Setup(Level.Iteration)} method, and only set its fields if
+ * {@link #shouldReport} returns {@code true}.
+ */
+public final class ReportOnce
+{
+    private boolean _reported;
+
+    private boolean _shouldReport;
+
+    public void nextIteration(IterationParams iterParams) {
+        if (!_reported && iterParams.getType() == IterationType.MEASUREMENT) {
+            _reported = true;
+            _shouldReport = true;
+        }
+    }
+
+    /**
+     * @return True for the first call during the first measurement iteration;
+     *    false otherwise
+     */
+    public boolean shouldReport() {
+        if (_shouldReport) {
+            _shouldReport = false;
+            return true;
+        }
+        return false;
+    }
+}
@@ -5,6 +5,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.infra.Blackhole;
 
@@ -14,7 +16,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.perf.model.Currency;
 import com.fasterxml.jackson.perf.model.CurrencySampleProvider;
+import com.fasterxml.jackson.perf.model.PrimitiveCurrency;
 
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
 public abstract class WritePerfBaseFullJackson<T>
     extends WritePerfBasicJackson<T>
     implements WritePerfTestFull
@@ -28,8 +33,14 @@ public abstract class WritePerfBaseFullJackson<T>
     protected final ObjectWriter CURRENCY_WRITER_STD;
 
     protected final ObjectWriter CURRENCY_WRITER_FAST;
+
+    protected final ObjectWriter PRIMITIVE_CURRENCY_WRITER_STD;
+
+    protected final ObjectWriter PRIMITIVE_CURRENCY_WRITER_FAST;
     
     protected final Currency currencyValue;
+
+    protected final PrimitiveCurrency primitiveCurrencyValue;
     
     // Note on these two variables: looks like there is some (de?)optimization
     // that changes results if we use conversion operations too early.
@@ -47,9 +58,13 @@ public abstract class WritePerfBaseFullJackson<T>
         CURRENCY_WRITER_STD = mapper.writerFor(Currency.class)
                 .without(StreamWriteFeature.USE_FAST_DOUBLE_WRITER);
         CURRENCY_WRITER_FAST = CURRENCY_WRITER_STD.with(StreamWriteFeature.USE_FAST_DOUBLE_WRITER);
+        PRIMITIVE_CURRENCY_WRITER_STD = mapper.writerFor(PrimitiveCurrency.class)
+                .without(StreamWriteFeature.USE_FAST_DOUBLE_WRITER);
+        PRIMITIVE_CURRENCY_WRITER_FAST = PRIMITIVE_CURRENCY_WRITER_STD.with(StreamWriteFeature.USE_FAST_DOUBLE_WRITER);
 
         // Alas, we need to read Currency POJO in here, no getting around the fact
         currencyValue = CurrencySampleProvider.getSample();
+        primitiveCurrencyValue = CurrencySampleProvider.getPrimitiveSample();
     }
 
     /*
@@ -59,17 +74,35 @@ public abstract class WritePerfBaseFullJackson<T>
      */
 
     @Benchmark
-    @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void writeCurrencyPojoDefault(Blackhole bh) throws Exception {
-        bh.consume(write(currencyValue, CURRENCY_WRITER_STD));
+    public void writeCurrencyPojoDefault(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        writeAndCount(bh, currencyValue, CURRENCY_WRITER_STD, size, rate);
+    }
+
+    @Benchmark
+    @Override
+    public void writeCurrencyPojoFast(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        writeAndCount(bh, currencyValue, CURRENCY_WRITER_FAST, size, rate);
+    }
+
+    @Benchmark
+    @Override
+    public void writeCurrencyPrimitiveDefault(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        writeAndCount(bh, primitiveCurrencyValue, PRIMITIVE_CURRENCY_WRITER_STD, size, rate);
     }
 
     @Benchmark
-    @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void writeCurrencyPojoFast(Blackhole bh) throws Exception {
-        bh.consume(write(currencyValue, CURRENCY_WRITER_FAST));
+    public void writeCurrencyPrimitiveFast(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        writeAndCount(bh, primitiveCurrencyValue, PRIMITIVE_CURRENCY_WRITER_FAST, size, rate);
     }
 
     /*
@@ -79,15 +112,16 @@ public abstract class WritePerfBaseFullJackson<T>
      */
 
     @Benchmark
-    @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void writeUntypedMediaItem(Blackhole bh) throws Exception {
+    public void writeUntypedMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
         Object value = untypedRef.get();
         if (value == null) {
             value = MAPPER.convertValue(item, Map.class);
             untypedRef.set(value);
         }
-        bh.consume(write(value, UNTYPED_WRITER));
+        writeAndCount(bh, value, UNTYPED_WRITER, size, rate);
     }
 
     /*
@@ -97,14 +131,15 @@ public abstract class WritePerfBaseFullJackson<T>
      */
 
     @Benchmark
-    @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void writeNodeMediaItem(Blackhole bh) throws Exception {
+    public void writeNodeMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
         JsonNode node = nodeRef.get();
         if (node == null) {
             node = MAPPER.valueToTree(item);
             nodeRef.set(node);
         }
-        bh.consume(write(node, NODE_WRITER));
+        writeAndCount(bh, node, NODE_WRITER, size, rate);
     }
 }
@@ -0,0 +1,61 @@
+package com.fasterxml.jackson.perf;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.perf.util.NopWriter;
+
+/**
+ * Variant of {@link WritePerfBaseFullJackson} that writes output using
+ * {@link java.io.Writer} (or as {@link String}) instead of
+ * {@link java.io.OutputStream}, for textual formats.
+ *<p>
+ * NOTE: size reported in chars, not bytes (same for ASCII content)
+ */
+@State(Scope.Thread)
+public abstract class WritePerfBaseStringJackson<T>
+    extends WritePerfBaseFullJackson<T>
+{
+    public enum Target {
+        /**
+         * Fresh {@link NopWriter} for every write
+         */
+        WRITER {
+            @Override
+            public int write(ObjectWriter w, Object value) throws IOException {
+                NopWriter out = new NopWriter();
+                w.writeValue(out, value);
+                return out.size();
+            }
+        },
+        /**
+         * {@link ObjectWriter#writeValueAsString}
+         */
+        STRING {
+            @Override
+            public int write(ObjectWriter w, Object value) throws IOException {
+                return w.writeValueAsString(value).length();
+            }
+        },
+        ;
+
+        public abstract int write(ObjectWriter w, Object value) throws IOException;
+    }
+
+    @Param({"WRITER", "STRING"})
+    public Target target;
+
+    protected WritePerfBaseStringJackson(ObjectMapper mapper) {
+        super(mapper);
+    }
+
+    @Override
+    protected int write(Object value, ObjectWriter w) throws IOException {
+        return target.write(w, value);
+    }
+}
@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.infra.Blackhole;
 
@@ -12,6 +14,8 @@ import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.perf.model.MediaItems;
 import com.fasterxml.jackson.perf.util.NopOutputStream;
 
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
 public abstract class WritePerfBasicJackson<T>
 	implements WritePerfTestBasic
 {
@@ -45,10 +49,11 @@ public abstract class WritePerfBasicJackson<T>
      */
 
     @Benchmark
-    @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void writePojoMediaItem(Blackhole bh) throws Exception {
-        bh.consume(write(item, MEDIA_ITEM_WRITER));
+    public void writePojoMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        writeAndCount(bh, item, MEDIA_ITEM_WRITER, size, rate);
     }
 
     /*
@@ -57,10 +62,29 @@ public abstract class WritePerfBasicJackson<T>
     /**********************************************************************
      */
 
+    /**
+     * Method for writing given value into a {@link NopOutputStream}, returning
+     * length of output; overridden by {@link WritePerfSinksJackson} and
+     * {@link WritePerfBaseStringJackson} to write into other kinds of output
+     * targets.
+     */
     @SuppressWarnings("resource")
-    protected final int write(Object value, ObjectWriter w) throws IOException {
+    protected int write(Object value, ObjectWriter w) throws IOException {
         NopOutputStream out = new NopOutputStream();
         w.writeValue(out, value);
         return out.size();
     }
+
+    /**
+     * Helper method that writes given value and also records size of
+     * output (bytes per operation and MB/s) for reporting.
+     */
+    protected final void writeAndCount(Blackhole bh, Object value, ObjectWriter w,
+            AuxStateSize size, AuxStateThroughput rate) throws IOException
+    {
+        final int len = write(value, w);
+        size.set(len);
+        rate.add(len);
+        bh.consume(len);
+    }
 }
@@ -0,0 +1,61 @@
+package com.fasterxml.jackson.perf;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.fasterxml.jackson.core.FormatSchema;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.perf.util.OutputSink;
+
+/**
+ * Variant of {@link WritePerfBasicJackson} that writes into output target
+ * selected with {@code sink} parameter (see {@link OutputSink.Type}),
+ * instead of always using {@code NopOutputStream}, to include cost of
+ * copying and buffer management of real targets.
+ *<p>
+ * Kept separate from regular write tests so that their results (and result
+ * keys used for regression detection) do not get an additional parameter.
+ */
+@State(Scope.Thread)
+public abstract class WritePerfSinksJackson<T>
+    extends WritePerfBasicJackson<T>
+{
+    // STRING only works for textual formats so needs to be explicitly requested
+    @Param({"NOP", "REUSED_BAOS", "BYTES", "DIRECT_BUFFER", "FILE_CHANNEL", "SOCKET"})
+    public OutputSink.Type sink;
+
+    protected OutputSink _sink;
+
+    protected WritePerfSinksJackson(ObjectMapper mapper) {
+        super(mapper);
+    }
+
+    protected WritePerfSinksJackson(ObjectMapper mapper, FormatSchema schema) {
+        super(mapper, schema);
+    }
+
+    protected WritePerfSinksJackson(ObjectMapper mapper, FormatSchema schema, T value) {
+        super(mapper, schema, value);
+    }
+
+    @Setup
+    public void setupSink() throws IOException {
+        _sink = sink.create();
+    }
+
+    @TearDown
+    public void closeSink() throws IOException {
+        _sink.close();
+    }
+
+    @Override
+    protected int write(Object value, ObjectWriter w) throws IOException {
+        return _sink.write(w, value);
+    }
+}
@@ -4,5 +4,6 @@ import org.openjdk.jmh.infra.Blackhole;
 
 public interface WritePerfTestBasic
 {
-    public void writePojoMediaItem(Blackhole bh) throws Exception;
+    public void writePojoMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
 }
@@ -4,10 +4,18 @@ import org.openjdk.jmh.infra.Blackhole;
 
 public interface WritePerfTestFull extends WritePerfTestBasic
 {
-    public void writeUntypedMediaItem(Blackhole bh) throws Exception;
+    public void writeUntypedMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
 
-    public void writeNodeMediaItem(Blackhole bh) throws Exception;
+    public void writeNodeMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
 
-    public void writeCurrencyPojoDefault(Blackhole bh) throws Exception;
-    public void writeCurrencyPojoFast(Blackhole bh) throws Exception;
+    public void writeCurrencyPojoDefault(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
+    public void writeCurrencyPojoFast(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
+    public void writeCurrencyPrimitiveDefault(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
+    public void writeCurrencyPrimitiveFast(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception;
 }
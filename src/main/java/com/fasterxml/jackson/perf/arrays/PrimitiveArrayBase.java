@@ -0,0 +1,205 @@
+package com.fasterxml.jackson.perf.arrays;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import com.fasterxml.jackson.core.FormatSchema;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.perf.ReportOnce;
+import com.fasterxml.jackson.perf.data.DataFormat;
+import com.fasterxml.jackson.perf.model.PrimitiveArrays;
+
+/**
+ * Base class for reading and writing {@link PrimitiveArrays} values: single
+ * array of {@code size} elements of given {@code type}.
+ *<p>
+ * NOTE: JMH requires {@code @Param}s to be declared in {@code @State} class.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public abstract class PrimitiveArrayBase
+{
+    /**
+     * Bytes allocated per array element read or written, measured (using
+     * HotSpot-specific {@code ThreadMXBean} extension) over operations run
+     * outside of measurement, before the first measurement iteration, and
+     * reported once (see {@link ReportOnce}); NaN if JVM does not support
+     * measuring per-thread allocation.
+     * Unlike {@code gc.alloc.rate.norm} of {@code -prof gc}, does not require
+     * dividing by {@code size}.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class AllocationPerElement
+    {
+        public double allocPerElement;
+
+        private final ReportOnce _once = new ReportOnce();
+
+        @Setup(Level.Iteration)
+        public void setup(IterationParams iterParams) {
+            allocPerElement = 0.0;
+            _once.nextIteration(iterParams);
+        }
+
+        public void set(double bytes) {
+            if (_once.shouldReport()) {
+                allocPerElement = bytes;
+            }
+        }
+    }
+
+    public enum ElementType {
+        INT(PrimitiveArrays.Ints.class) {
+            @Override
+            Object generate(int size) {
+                return PrimitiveArrays.ints(size, size);
+            }
+        },
+        LONG(PrimitiveArrays.Longs.class) {
+            @Override
+            Object generate(int size) {
+                return PrimitiveArrays.longs(size, size);
+            }
+        },
+        FLOAT(PrimitiveArrays.Floats.class) {
+            @Override
+            Object generate(int size) {
+                return PrimitiveArrays.floats(size, size);
+            }
+        },
+        DOUBLE(PrimitiveArrays.Doubles.class) {
+            @Override
+            Object generate(int size) {
+                return PrimitiveArrays.doubles(size, size);
+            }
+        },
+        /**
+         * Same values as {@link #DOUBLE} but as {@code List<Double>}, to compare
+         * dedicated primitive array (de)serializers with boxed collection handling
+         */
+        DOUBLE_LIST(PrimitiveArrays.DoubleList.class) {
+            @Override
+            Object generate(int size) {
+                return PrimitiveArrays.doubleList(size, size);
+            }
+        },
+        ;
+
+        final Class<?> valueType;
+
+        private ElementType(Class<?> valueType) {
+            this.valueType = valueType;
+        }
+
+        abstract Object generate(int size);
+    }
+
+    // CSV (not flat) and Properties (one entry per element) excluded
+    @Param({"JSON", "SMILE", "CBOR", "AVRO", "PROTOBUF", "ION", "MSGPACK", "BSON",
+        "XML", "YAML", "TOML"})
+    public DataFormat format;
+
+    @Param({"1", "1000", "1000000"})
+    public int size;
+
+    @Param
+    public ElementType type;
+
+    /**
+     * Number of elements to read or write for measuring allocation (but
+     * at least one operation is run)
+     */
+    protected final static int ALLOCATION_ELEMENTS = 100_000;
+
+    /**
+     * HotSpot-specific extension needed for per-thread allocation; {@code null}
+     * if not available (in which case allocation is reported as NaN)
+     */
+    private final static com.sun.management.ThreadMXBean THREADS = _threads();
+
+    protected ObjectMapper mapper;
+
+    protected FormatSchema schema;
+
+    protected Object value;
+
+    protected byte[] input;
+
+    /**
+     * Bytes allocated per element, measured before the first measurement iteration
+     */
+    protected double allocPerElement = Double.NaN;
+
+    protected abstract Object perform() throws Exception;
+
+    // Thread.getId() deprecated in JDK 19 but its replacement not available on Java 8
+    @SuppressWarnings("deprecation")
+    @Setup(Level.Iteration)
+    public void measureAllocation(IterationParams iterParams) throws Exception
+    {
+        if (THREADS == null || !Double.isNaN(allocPerElement)
+                || iterParams.getType() != IterationType.MEASUREMENT) {
+            return;
+        }
+        final int ops = Math.max(1, ALLOCATION_ELEMENTS / size);
+        final long threadId = Thread.currentThread().getId();
+        final long start = THREADS.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ops; ++i) {
+            perform();
+        }
+        final long bytes = THREADS.getThreadAllocatedBytes(threadId) - start;
+        allocPerElement = (double) bytes / ((long) ops * size);
+    }
+
+    private static com.sun.management.ThreadMXBean _threads()
+    {
+        try {
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if (threads instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean hsThreads = (com.sun.management.ThreadMXBean) threads;
+                if (hsThreads.isThreadAllocatedMemorySupported()) {
+                    hsThreads.setThreadAllocatedMemoryEnabled(true);
+                    return hsThreads;
+                }
+            }
+        } catch (LinkageError | UnsupportedOperationException e) {
+            // no com.sun.management on this JVM
+        }
+        return null;
+    }
+
+    protected void setupArrays() throws Exception
+    {
+        mapper = format.newMapperForLargeContent();
+        schema = format.schemaFor(mapper, type.valueType);
+        value = type.generate(size);
+        input = writer().writeValueAsBytes(value);
+    }
+
+    protected ObjectReader reader() {
+        ObjectReader r = mapper.readerFor(type.valueType);
+        return (schema == null) ? r : r.with(schema);
+    }
+
+    protected ObjectWriter writer() {
+        ObjectWriter w = mapper.writerFor(type.valueType);
+        return (schema == null) ? w : w.with(schema);
+    }
+}
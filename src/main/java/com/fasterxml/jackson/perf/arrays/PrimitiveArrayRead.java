@@ -0,0 +1,45 @@
+package com.fasterxml.jackson.perf.arrays;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.perf.AuxStateSize;
+import com.fasterxml.jackson.perf.AuxStateThroughput;
+import com.fasterxml.jackson.perf.model.PrimitiveArrays;
+
+/**
+ * Tests for reading {@link PrimitiveArrays} values, using dedicated
+ * primitive array deserializers (or, for {@code DOUBLE_LIST},
+ * {@code List<Double>} deserializer):
+ *<pre>
+ *  java -jar target/perf.jar PrimitiveArrayRead -p format=JSON,SMILE,CBOR -p type=DOUBLE,DOUBLE_LIST
+ *</pre>
+ */
+public class PrimitiveArrayRead extends PrimitiveArrayBase
+{
+    protected ObjectReader reader;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        setupArrays();
+        reader = reader();
+    }
+
+    @Override
+    protected Object perform() throws Exception {
+        return reader.readValue(input);
+    }
+
+    @Benchmark
+    public void readArray(Blackhole bh, AuxStateSize size, AuxStateThroughput rate,
+            AllocationPerElement alloc) throws Exception
+    {
+        alloc.set(allocPerElement);
+        size.set(input.length);
+        rate.add(input.length);
+        bh.consume(reader.readValue(input));
+    }
+}
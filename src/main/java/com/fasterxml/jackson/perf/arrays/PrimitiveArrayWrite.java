@@ -0,0 +1,50 @@
+package com.fasterxml.jackson.perf.arrays;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.perf.AuxStateSize;
+import com.fasterxml.jackson.perf.AuxStateThroughput;
+import com.fasterxml.jackson.perf.model.PrimitiveArrays;
+import com.fasterxml.jackson.perf.util.NopOutputStream;
+
+/**
+ * Tests for writing {@link PrimitiveArrays} values, using dedicated
+ * primitive array serializers (or, for {@code DOUBLE_LIST},
+ * {@code List<Double>} serializer):
+ *<pre>
+ *  java -jar target/perf.jar PrimitiveArrayWrite -p format=JSON,SMILE,CBOR -p type=DOUBLE,DOUBLE_LIST
+ *</pre>
+ */
+public class PrimitiveArrayWrite extends PrimitiveArrayBase
+{
+    protected ObjectWriter writer;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        setupArrays();
+        writer = writer();
+    }
+
+    @Override
+    protected Object perform() throws Exception {
+        NopOutputStream out = new NopOutputStream();
+        writer.writeValue(out, value);
+        return out.size();
+    }
+
+    @Benchmark
+    public void writeArray(Blackhole bh, AuxStateSize size, AuxStateThroughput rate,
+            AllocationPerElement alloc) throws Exception
+    {
+        alloc.set(allocPerElement);
+        NopOutputStream out = new NopOutputStream();
+        writer.writeValue(out, value);
+        size.set(out.size());
+        rate.add(out.size());
+        bh.consume(out.size());
+    }
+}
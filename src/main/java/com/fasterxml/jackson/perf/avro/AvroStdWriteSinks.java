@@ -0,0 +1,28 @@
+package com.fasterxml.jackson.perf.avro;
+
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+
+import com.fasterxml.jackson.dataformat.avro.*;
+import com.fasterxml.jackson.perf.WritePerfSinksJackson;
+import com.fasterxml.jackson.perf.model.MediaItem;
+
+@State(Scope.Thread)
+public class AvroStdWriteSinks
+    extends WritePerfSinksJackson<MediaItem>
+{
+    private static final AvroMapper MAPPER = new AvroMapper();
+
+    private final static AvroSchema _mediaItemSchema;
+    static {
+         try {
+             _mediaItemSchema = MAPPER.schemaFor(MediaItem.class);
+         } catch (Exception e) {
+             throw new RuntimeException(e);
+         }
+    }
+
+    public AvroStdWriteSinks() {
+        super(MAPPER, _mediaItemSchema);
+    }
+}
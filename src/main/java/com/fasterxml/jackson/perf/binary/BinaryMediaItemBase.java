@@ -0,0 +1,158 @@
+package com.fasterxml.jackson.perf.binary;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.FormatSchema;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.ion.IonFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.perf.data.DataFormat;
+import com.fasterxml.jackson.perf.model.BinaryMediaItem;
+import com.fasterxml.jackson.perf.model.MediaItems;
+
+/**
+ * Base class for reading and writing {@link BinaryMediaItem} values, with
+ * thumbnail of {@code size} bytes, using given binary data {@code encoding}.
+ *<p>
+ * NOTE: JMH requires {@code @Param}s to be declared in {@code @State} class.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public abstract class BinaryMediaItemBase
+{
+    public enum BinaryEncoding {
+        /**
+         * JSON with default Base64 variant ({@code MIME-NO-LINEFEEDS})
+         */
+        JSON_BASE64(DataFormat.JSON, Base64Variants.MIME_NO_LINEFEEDS, true),
+        /**
+         * JSON with {@code MIME} Base64 variant: linefeed after every 76 characters
+         */
+        JSON_BASE64_MIME(DataFormat.JSON, Base64Variants.MIME, true),
+        /**
+         * JSON with URL-safe Base64 variant: no padding, {@code -} and {@code _}
+         * instead of {@code +} and {@code /}
+         */
+        JSON_BASE64_URL(DataFormat.JSON, Base64Variants.MODIFIED_FOR_URL, true),
+        /**
+         * Smile with binary data encoded as 7-bit bytes (default), to guarantee
+         * no conflicts with Smile markers
+         */
+        SMILE_7BIT(DataFormat.SMILE, true) {
+            @Override
+            ObjectWriter writer(ObjectWriter w) {
+                return w.with(SmileGenerator.Feature.ENCODE_BINARY_AS_7BIT);
+            }
+        },
+        /**
+         * Smile with binary data written as is
+         */
+        SMILE_RAW(DataFormat.SMILE, true) {
+            @Override
+            ObjectWriter writer(ObjectWriter w) {
+                return w.without(SmileGenerator.Feature.ENCODE_BINARY_AS_7BIT);
+            }
+        },
+        CBOR(DataFormat.CBOR, true),
+        // as of 2.15, parsers of these formats either do not support
+        // streaming binary values into OutputStream, or do not handle native
+        // binary values (Protobuf, MessagePack) when doing so
+        AVRO(DataFormat.AVRO, false),
+        PROTOBUF(DataFormat.PROTOBUF, false),
+        BSON(DataFormat.BSON, false),
+        MSGPACK(DataFormat.MSGPACK, false),
+        ION(DataFormat.ION, false),
+        ;
+
+        final DataFormat format;
+
+        final Base64Variant base64;
+
+        /**
+         * Whether parser supports {@link com.fasterxml.jackson.core.JsonParser#readBinaryValue(Base64Variant, java.io.OutputStream)}
+         * for binary values
+         */
+        final boolean streamingBinary;
+
+        private BinaryEncoding(DataFormat format, boolean streamingBinary) {
+            this(format, Base64Variants.getDefaultVariant(), streamingBinary);
+        }
+
+        private BinaryEncoding(DataFormat format, Base64Variant base64, boolean streamingBinary) {
+            this.format = format;
+            this.base64 = base64;
+            this.streamingBinary = streamingBinary;
+        }
+
+        ObjectMapper newMapper() {
+            if (format == DataFormat.JSON) {
+                // Base64-encoded 4 MB exceeds default maximum String length (5M chars)
+                return new JsonMapper(new JsonFactoryBuilder()
+                        .streamReadConstraints(StreamReadConstraints.builder()
+                                .maxStringLength(Integer.MAX_VALUE).build())
+                        .build());
+            }
+            if (format == DataFormat.ION) {
+                // default Ion mapper writes textual Ion (with Base64-encoded binary)
+                return new ObjectMapper(IonFactory.forBinaryWriters());
+            }
+            return format.newMapper();
+        }
+
+        ObjectReader reader(ObjectReader r) {
+            return r.with(base64);
+        }
+
+        ObjectWriter writer(ObjectWriter w) {
+            return w.with(base64);
+        }
+    }
+
+    @Param
+    public BinaryEncoding encoding;
+
+    // 1k, 64k, 1M, 4M
+    @Param({"1024", "65536", "1048576", "4194304"})
+    public int size;
+
+    protected ObjectMapper mapper;
+
+    protected FormatSchema schema;
+
+    protected BinaryMediaItem item;
+
+    protected byte[] itemBytes;
+
+    protected void setupItem() throws Exception
+    {
+        mapper = encoding.newMapper();
+        schema = encoding.format.schemaFor(mapper, BinaryMediaItem.class);
+        item = MediaItems.binaryMediaItem(size);
+        itemBytes = writer().writeValueAsBytes(item);
+    }
+
+    protected ObjectReader reader() {
+        ObjectReader r = encoding.reader(mapper.readerFor(BinaryMediaItem.class));
+        return (schema == null) ? r : r.with(schema);
+    }
+
+    protected ObjectWriter writer() {
+        ObjectWriter w = encoding.writer(mapper.writerFor(BinaryMediaItem.class));
+        return (schema == null) ? w : w.with(schema);
+    }
+}
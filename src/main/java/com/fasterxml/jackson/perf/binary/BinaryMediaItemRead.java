@@ -0,0 +1,106 @@
+package com.fasterxml.jackson.perf.binary;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.perf.AuxStateSize;
+import com.fasterxml.jackson.perf.AuxStateThroughput;
+import com.fasterxml.jackson.perf.model.BinaryMediaItem;
+import com.fasterxml.jackson.perf.util.NopOutputStream;
+
+/**
+ * Tests for reading {@link BinaryMediaItem} values: as POJOs (databind), and
+ * with streaming parser, either materializing thumbnail as {@code byte[]}
+ * ({@link JsonParser#getBinaryValue}) or decoding it into an
+ * {@code OutputStream} ({@link JsonParser#readBinaryValue}; for formats that
+ * do not support this, {@code byte[]} is materialized and then written):
+ *<pre>
+ *  java -jar target/perf.jar BinaryMediaItemRead -p encoding=JSON_BASE64,SMILE_RAW,CBOR -p size=1048576
+ *</pre>
+ */
+public class BinaryMediaItemRead extends BinaryMediaItemBase
+{
+    protected final static String BINARY_PROPERTY = "thumbnail";
+
+    protected ObjectReader reader;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        setupItem();
+        reader = reader();
+    }
+
+    @Benchmark
+    public void readPojoMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate) throws Exception
+    {
+        size.set(itemBytes.length);
+        rate.add(itemBytes.length);
+        bh.consume(reader.readValue(itemBytes));
+    }
+
+    @Benchmark
+    public int readBinaryAsBytes(AuxStateSize size, AuxStateThroughput rate) throws Exception
+    {
+        size.set(itemBytes.length);
+        rate.add(itemBytes.length);
+        try (JsonParser p = reader.createParser(itemBytes)) {
+            return _readBinary(p, null);
+        }
+    }
+
+    @Benchmark
+    public int readBinaryToStream(AuxStateSize size, AuxStateThroughput rate) throws Exception
+    {
+        size.set(itemBytes.length);
+        rate.add(itemBytes.length);
+        try (JsonParser p = reader.createParser(itemBytes)) {
+            return _readBinary(p, new NopOutputStream());
+        }
+    }
+
+    /**
+     * Helper method for reading all binary values (native, or Base64-encoded
+     * String for textual formats) of the root value, either materialized
+     * (if {@code out} is null) or written into given stream.
+     *
+     * @return Total length of binary values read
+     */
+    protected int _readBinary(JsonParser p, NopOutputStream out) throws IOException
+    {
+        int total = 0;
+        int depth = 0;
+        JsonToken t;
+        // MessagePack parser fails (instead of returning null) if asked for
+        // token past the end of content, so need to stop after root value
+        // (and parsing context can not be used, not being properly
+        // maintained by all parsers)
+        while ((t = p.nextToken()) != null) {
+            if (t.isStructStart()) {
+                ++depth;
+            } else if (t.isStructEnd()) {
+                if (--depth == 0) {
+                    break;
+                }
+            } else if ((t == JsonToken.VALUE_EMBEDDED_OBJECT || t == JsonToken.VALUE_STRING)
+                    && BINARY_PROPERTY.equals(p.currentName())) {
+                if (out == null) {
+                    total += p.getBinaryValue(encoding.base64).length;
+                } else if (encoding.streamingBinary) {
+                    total += p.readBinaryValue(encoding.base64, out);
+                } else {
+                    byte[] b = p.getBinaryValue(encoding.base64);
+                    out.write(b);
+                    total += b.length;
+                }
+            }
+        }
+        return total;
+    }
+}
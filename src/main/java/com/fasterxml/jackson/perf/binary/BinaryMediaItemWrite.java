@@ -0,0 +1,39 @@
+package com.fasterxml.jackson.perf.binary;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.perf.AuxStateSize;
+import com.fasterxml.jackson.perf.AuxStateThroughput;
+import com.fasterxml.jackson.perf.model.BinaryMediaItem;
+import com.fasterxml.jackson.perf.util.NopOutputStream;
+
+/**
+ * Tests for writing {@link BinaryMediaItem} values:
+ *<pre>
+ *  java -jar target/perf.jar BinaryMediaItemWrite -p encoding=JSON_BASE64,SMILE_7BIT,SMILE_RAW -p size=1048576
+ *</pre>
+ */
+public class BinaryMediaItemWrite extends BinaryMediaItemBase
+{
+    protected ObjectWriter writer;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        setupItem();
+        writer = writer();
+    }
+
+    @Benchmark
+    public void writePojoMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate) throws Exception
+    {
+        NopOutputStream out = new NopOutputStream();
+        writer.writeValue(out, item);
+        size.set(out.size());
+        rate.add(out.size());
+        bh.consume(out.size());
+    }
+}
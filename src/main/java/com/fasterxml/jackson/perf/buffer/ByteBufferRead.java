@@ -0,0 +1,167 @@
+package com.fasterxml.jackson.perf.buffer;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.perf.AuxStateSize;
+import com.fasterxml.jackson.perf.AuxStateThroughput;
+import com.fasterxml.jackson.perf.data.DataFormat;
+import com.fasterxml.jackson.perf.data.InputConverter;
+import com.fasterxml.jackson.perf.data.InputData;
+import com.fasterxml.jackson.perf.model.MediaItem;
+import com.fasterxml.jackson.perf.util.ByteBufferChannel;
+import com.fasterxml.jackson.perf.util.ByteBufferInputStream;
+
+/**
+ * Tests for reading content held in heap and direct {@link ByteBuffer}s
+ * (as with pooled network buffers), exposed as {@code InputStream}s
+ * and {@code ReadableByteChannel}s, to compare with reading from {@code byte[]}.
+ *<pre>
+ *  java -jar target/perf.jar ByteBufferRead -p format=JSON -p input=BYTE_ARRAY,DIRECT_STREAM,DIRECT_COPY
+ *</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ByteBufferRead
+{
+    public enum InputType {
+        /**
+         * Baseline: content as {@code byte[]}
+         */
+        BYTE_ARRAY {
+            @Override
+            Object read(ObjectReader r, Content c) throws IOException {
+                return r.readValue(c.bytes);
+            }
+        },
+        /**
+         * Heap buffer, using backing array directly (no copying)
+         */
+        HEAP_ARRAY {
+            @Override
+            Object read(ObjectReader r, Content c) throws IOException {
+                ByteBuffer buf = c.heap;
+                return r.readValue(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+            }
+        },
+        HEAP_STREAM {
+            @Override
+            Object read(ObjectReader r, Content c) throws IOException {
+                return r.readValue(new ByteBufferInputStream(c.heap));
+            }
+        },
+        HEAP_CHANNEL {
+            @Override
+            Object read(ObjectReader r, Content c) throws IOException {
+                return r.readValue(Channels.newInputStream(new ByteBufferChannel(c.heap)));
+            }
+        },
+        DIRECT_STREAM {
+            @Override
+            Object read(ObjectReader r, Content c) throws IOException {
+                return r.readValue(new ByteBufferInputStream(c.direct));
+            }
+        },
+        DIRECT_CHANNEL {
+            @Override
+            Object read(ObjectReader r, Content c) throws IOException {
+                return r.readValue(Channels.newInputStream(new ByteBufferChannel(c.direct)));
+            }
+        },
+        /**
+         * Direct buffer contents copied into a reused {@code byte[]} first
+         */
+        DIRECT_COPY {
+            @Override
+            Object read(ObjectReader r, Content c) throws IOException {
+                ByteBuffer buf = c.direct.duplicate();
+                final int len = buf.remaining();
+                buf.get(c.scratch, 0, len);
+                return r.readValue(c.scratch, 0, len);
+            }
+        },
+        ;
+
+        abstract Object read(ObjectReader r, Content c) throws IOException;
+    }
+
+    /**
+     * Same content as {@code byte[]}, heap and direct buffers.
+     */
+    static class Content
+    {
+        final byte[] bytes;
+        final ByteBuffer heap;
+        final ByteBuffer direct;
+        final byte[] scratch;
+
+        Content(byte[] bytes) {
+            this.bytes = bytes;
+            heap = ByteBuffer.wrap(bytes.clone());
+            direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes);
+            // cast to Buffer to link to Java 8 method (not covariant override of 9+)
+            ((Buffer) direct).flip();
+            scratch = new byte[bytes.length];
+        }
+    }
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    public DataFormat format;
+
+    @Param({"BYTE_ARRAY", "HEAP_ARRAY", "HEAP_STREAM", "HEAP_CHANNEL",
+        "DIRECT_STREAM", "DIRECT_CHANNEL", "DIRECT_COPY"})
+    public InputType input;
+
+    @Param("CITM_CATALOG_WS")
+    public InputData data;
+
+    protected ObjectReader MEDIA_ITEM_READER;
+
+    protected ObjectReader UNTYPED_READER;
+
+    protected Content mediaItem;
+
+    protected Content untyped;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        ObjectMapper mapper = format.newMapper();
+        InputConverter conv = InputConverter.stdConverter(mapper);
+        MEDIA_ITEM_READER = mapper.readerFor(MediaItem.class);
+        UNTYPED_READER = mapper.readerFor(Object.class);
+        mediaItem = new Content(conv.mediaItemAsBytes());
+        untyped = new Content(conv.bytes(data));
+    }
+
+    @Benchmark
+    public void readPojoMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate) throws Exception {
+        size.set(mediaItem.bytes.length);
+        rate.add(mediaItem.bytes.length);
+        bh.consume(input.read(MEDIA_ITEM_READER, mediaItem));
+    }
+
+    @Benchmark
+    public void readUntyped(Blackhole bh, AuxStateSize size, AuxStateThroughput rate) throws Exception {
+        size.set(untyped.bytes.length);
+        rate.add(untyped.bytes.length);
+        bh.consume(input.read(UNTYPED_READER, untyped));
+    }
+}
@@ -0,0 +1,186 @@
+package com.fasterxml.jackson.perf.cache;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.IterationParams;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.perf.ReportOnce;
+import com.fasterxml.jackson.perf.data.DataFormat;
+import com.fasterxml.jackson.perf.util.NopOutputStream;
+
+/**
+ * Tests for reading and writing values of {@code types} distinct POJO types
+ * (generated at runtime with {@link PojoClassGenerator}), cycling through all
+ * of them in order: with type count exceeding capacity of (LRU) caches
+ * ({@code TypeFactory}: 200 entries, deserializers: 2000, serializers: 4000,
+ * as of Jackson 2.15), every operation is a cache miss.
+ *<p>
+ * Approximate heap retained by mapper (caches) once all types have been
+ * read and written is reported as {@code cacheKB}.
+ *<pre>
+ *  java -jar target/perf.jar CacheThrash -p types=100,5000 -p api=READER_WRITER
+ *</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CacheThrash
+{
+    /**
+     * Approximate memory usage of mapper after all types have been used;
+     * reported once (see {@link ReportOnce}).
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class CacheFootprint
+    {
+        public long cacheKB;
+
+        private final ReportOnce _once = new ReportOnce();
+
+        @Setup(Level.Iteration)
+        public void setup(IterationParams iterParams) {
+            cacheKB = 0L;
+            _once.nextIteration(iterParams);
+        }
+
+        public void set(long kb) {
+            if (_once.shouldReport()) {
+                cacheKB = kb;
+            }
+        }
+    }
+
+    public enum Api {
+        /**
+         * Use {@code ObjectMapper.readValue()} / {@code ObjectMapper.writeValue()}:
+         * for reads, root value deserializers are kept in a separate (unbounded)
+         * cache of the mapper; for writes, root value serializers go through the
+         * same bounded (LRU) serializer cache as with {@link #READER_WRITER}
+         */
+        MAPPER {
+            @Override
+            public Object read(ObjectMapper mapper, byte[] input, Class<?> type) throws IOException {
+                return mapper.readValue(input, type);
+            }
+
+            @Override
+            public int write(ObjectMapper mapper, Object value) throws IOException {
+                NopOutputStream out = new NopOutputStream();
+                mapper.writeValue(out, value);
+                return out.size();
+            }
+        },
+        /**
+         * Construct {@code ObjectReader} / {@code ObjectWriter} for type first
+         */
+        READER_WRITER {
+            @Override
+            public Object read(ObjectMapper mapper, byte[] input, Class<?> type) throws IOException {
+                return mapper.readerFor(type).readValue(input);
+            }
+
+            @Override
+            public int write(ObjectMapper mapper, Object value) throws IOException {
+                NopOutputStream out = new NopOutputStream();
+                mapper.writerFor(value.getClass()).writeValue(out, value);
+                return out.size();
+            }
+        },
+        ;
+
+        public abstract Object read(ObjectMapper mapper, byte[] input, Class<?> type) throws IOException;
+
+        public abstract int write(ObjectMapper mapper, Object value) throws IOException;
+    }
+
+    protected long footprintKB;
+
+    @Param({"100", "1000", "5000", "20000"})
+    public int types;
+
+    @Param("8")
+    public int fields;
+
+    @Param({"MAPPER", "READER_WRITER"})
+    public Api api;
+
+    @Param("JSON")
+    public DataFormat format;
+
+    protected ObjectMapper mapper;
+
+    protected Class<?>[] classes;
+
+    protected Object[] values;
+
+    protected byte[][] inputs;
+
+    protected int index;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        classes = new PojoClassGenerator(fields).generate(types);
+        values = new Object[types];
+        inputs = new byte[types][];
+        // use separate mapper for producing input, to measure cache usage of
+        // the actual mapper
+        ObjectMapper inputMapper = format.newMapper();
+        Random rnd = new Random(types);
+        for (int i = 0; i < types; ++i) {
+            values[i] = PojoClassGenerator.newInstance(classes[i], rnd);
+            inputs[i] = inputMapper.writeValueAsBytes(values[i]);
+        }
+        inputMapper = null;
+
+        final long before = _usedHeap();
+        mapper = format.newMapper();
+        for (int i = 0; i < types; ++i) {
+            api.read(mapper, inputs[i], classes[i]);
+            api.write(mapper, values[i]);
+        }
+        footprintKB = Math.max(0L, _usedHeap() - before) >> 10;
+    }
+
+    @Benchmark
+    public void readPojo(Blackhole bh, CacheFootprint footprint) throws Exception {
+        footprint.set(footprintKB);
+        final int ix = _next();
+        bh.consume(api.read(mapper, inputs[ix], classes[ix]));
+    }
+
+    @Benchmark
+    public void writePojo(Blackhole bh, CacheFootprint footprint) throws Exception {
+        footprint.set(footprintKB);
+        bh.consume(api.write(mapper, values[_next()]));
+    }
+
+    private int _next() {
+        int ix = index;
+        index = (ix + 1 == types) ? 0 : ix + 1;
+        return ix;
+    }
+
+    private static long _usedHeap() {
+        final Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; ++i) {
+            System.gc();
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
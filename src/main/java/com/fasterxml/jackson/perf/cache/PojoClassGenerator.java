@@ -0,0 +1,213 @@
+package com.fasterxml.jackson.perf.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Helper class for generating distinct POJO classes at runtime: each class has
+ * public fields (of types {@code int}, {@code String}, {@code long}, {@code double}
+ * and {@code boolean}) and public default constructor. Class files are generated
+ * directly (no bytecode library needed) and loaded using a new class loader.
+ */
+public class PojoClassGenerator
+{
+    public final static String PACKAGE = "com.fasterxml.jackson.perf.cache.gen";
+
+    /**
+     * Number of distinct field names used by all classes, to resemble set of
+     * DTOs (some of names shared, but not all)
+     */
+    protected final static int FIELD_NAME_COUNT = 500;
+
+    private final static String[] FIELD_TYPES = {
+        "I", "Ljava/lang/String;", "J", "D", "Z"
+    };
+
+    protected final int _fieldCount;
+
+    public PojoClassGenerator(int fieldCount) {
+        if (fieldCount < 1 || fieldCount > FIELD_NAME_COUNT) {
+            throw new IllegalArgumentException("Field count must be 1 - "+FIELD_NAME_COUNT);
+        }
+        _fieldCount = fieldCount;
+    }
+
+    /**
+     * Method for generating and loading given number of distinct classes
+     * (all loaded by a new class loader).
+     */
+    public Class<?>[] generate(int count)
+    {
+        GeneratedClassLoader loader = new GeneratedClassLoader(getClass().getClassLoader());
+        Class<?>[] classes = new Class<?>[count];
+        for (int i = 0; i < count; ++i) {
+            String name = PACKAGE + ".Pojo" + i;
+            byte[] classBytes = classBytes(name.replace('.', '/'), i);
+            classes[i] = loader.define(name, classBytes);
+        }
+        return classes;
+    }
+
+    /**
+     * Method for constructing an instance of given generated class, with
+     * random field values.
+     */
+    public static Object newInstance(Class<?> cls, Random rnd) throws Exception
+    {
+        Object value = cls.getDeclaredConstructor().newInstance();
+        for (Field f : cls.getFields()) {
+            Class<?> type = f.getType();
+            if (type == Integer.TYPE) {
+                f.setInt(value, rnd.nextInt());
+            } else if (type == Long.TYPE) {
+                f.setLong(value, rnd.nextLong());
+            } else if (type == Double.TYPE) {
+                f.setDouble(value, rnd.nextDouble() * 1000.0);
+            } else if (type == Boolean.TYPE) {
+                f.setBoolean(value, rnd.nextBoolean());
+            } else {
+                f.set(value, "value-" + Integer.toHexString(rnd.nextInt()));
+            }
+        }
+        return value;
+    }
+
+    /*
+    /**********************************************************************
+    /* Class file generation
+    /**********************************************************************
+     */
+
+    protected byte[] classBytes(String internalName, int classIndex)
+    {
+        ConstantPool cp = new ConstantPool();
+        final int thisClass = cp.classRef(internalName);
+        final int superClass = cp.classRef("java/lang/Object");
+        final int initName = cp.utf8("<init>");
+        final int initDesc = cp.utf8("()V");
+        final int superInit = cp.methodRef(superClass, initName, initDesc);
+        final int codeName = cp.utf8("Code");
+        final int[] fieldNames = new int[_fieldCount];
+        final int[] fieldTypes = new int[_fieldCount];
+        for (int i = 0; i < _fieldCount; ++i) {
+            // unique within class, but shared between classes
+            fieldNames[i] = cp.utf8("field" + ((classIndex * _fieldCount + i) % FIELD_NAME_COUNT));
+            fieldTypes[i] = cp.utf8(FIELD_TYPES[i % FIELD_TYPES.length]);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(200 + _fieldCount * 20);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0); // minor version
+            out.writeShort(52); // major version; Java 8
+            cp.write(out);
+            out.writeShort(0x0021); // ACC_PUBLIC | ACC_SUPER
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(0); // interfaces
+
+            out.writeShort(_fieldCount);
+            for (int i = 0; i < _fieldCount; ++i) {
+                out.writeShort(0x0001); // ACC_PUBLIC
+                out.writeShort(fieldNames[i]);
+                out.writeShort(fieldTypes[i]);
+                out.writeShort(0); // attributes
+            }
+
+            // Just one method: public default constructor
+            out.writeShort(1);
+            out.writeShort(0x0001);
+            out.writeShort(initName);
+            out.writeShort(initDesc);
+            out.writeShort(1); // attributes: Code
+            out.writeShort(codeName);
+            out.writeInt(17); // attribute length
+            out.writeShort(1); // max stack
+            out.writeShort(1); // max locals
+            out.writeInt(5); // code length
+            out.writeByte(0x2A); // aload_0
+            out.writeByte(0xB7); // invokespecial
+            out.writeShort(superInit);
+            out.writeByte(0xB1); // return
+            out.writeShort(0); // exception table
+            out.writeShort(0); // attributes
+
+            out.writeShort(0); // class attributes
+        } catch (IOException e) { // never gets thrown for in-memory output
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Minimal class file constant pool builder
+     */
+    static class ConstantPool
+    {
+        private final ByteArrayOutputStream _bytes = new ByteArrayOutputStream();
+
+        private final DataOutputStream _out = new DataOutputStream(_bytes);
+
+        private final Map<String, Integer> _entries = new LinkedHashMap<>();
+
+        private int _count = 1;
+
+        public int utf8(String value) {
+            return _entry("U:"+value, 1, value, 0, 0);
+        }
+
+        public int classRef(String internalName) {
+            return _entry("C:"+internalName, 7, null, utf8(internalName), -1);
+        }
+
+        public int methodRef(int classRef, int name, int desc) {
+            int nameAndType = _entry("N:"+name+":"+desc, 12, null, name, desc);
+            return _entry("M:"+classRef+":"+nameAndType, 10, null, classRef, nameAndType);
+        }
+
+        public void write(DataOutputStream out) throws IOException {
+            out.writeShort(_count);
+            _out.flush();
+            out.write(_bytes.toByteArray());
+        }
+
+        private int _entry(String key, int tag, String utf8, int index1, int index2)
+        {
+            Integer index = _entries.get(key);
+            if (index == null) {
+                try {
+                    _out.writeByte(tag);
+                    if (utf8 != null) {
+                        _out.writeUTF(utf8);
+                    } else {
+                        _out.writeShort(index1);
+                        if (index2 >= 0) {
+                            _out.writeShort(index2);
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                index = _count++;
+                _entries.put(key, index);
+            }
+            return index;
+        }
+    }
+
+    static class GeneratedClassLoader extends ClassLoader
+    {
+        GeneratedClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(String name, byte[] classBytes) {
+            return defineClass(name, classBytes, 0, classBytes.length);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.fasterxml.jackson.perf.cbor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Variant of {@link CBORStdWriteVanilla} that measures latency distribution
+ * (p50/p90/p99/p99.9/max) instead of throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CBORStdWriteLatency
+    extends CBORStdWriteVanilla
+{
+}
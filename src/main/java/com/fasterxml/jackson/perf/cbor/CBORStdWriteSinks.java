@@ -0,0 +1,20 @@
+package com.fasterxml.jackson.perf.cbor;
+
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.perf.WritePerfSinksJackson;
+import com.fasterxml.jackson.perf.model.MediaItem;
+
+@State(Scope.Thread)
+public class CBORStdWriteSinks
+    extends WritePerfSinksJackson<MediaItem>
+{
+    private static final ObjectMapper CBOR_MAPPER = new ObjectMapper(new CBORFactory());
+
+    public CBORStdWriteSinks() {
+        super(CBOR_MAPPER);
+    }
+}
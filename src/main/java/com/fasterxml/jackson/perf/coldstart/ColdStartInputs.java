@@ -0,0 +1,126 @@
+package com.fasterxml.jackson.perf.coldstart;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.FormatSchema;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.avro.AvroSchema;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.perf.data.DataFormat;
+import com.fasterxml.jackson.perf.data.Dataset;
+import com.fasterxml.jackson.perf.protob.ProtobufHelper;
+
+/**
+ * Precomputed {@code MediaItem} documents (and schemas, for formats that need
+ * one) used by {@link ColdStartReadWrite}, loaded as classpath resources from
+ * {@code coldstart/} so that no (de)serializers (or other serialization
+ * machinery) are constructed before the measured operation.
+ *<p>
+ * Resources are (re)generated with:
+ *<pre>
+ *  java -cp target/perf.jar com.fasterxml.jackson.perf.coldstart.ColdStartInputs src/main/resources/coldstart
+ *</pre>
+ */
+public class ColdStartInputs
+{
+    protected final static String RESOURCE_PREFIX = "coldstart/media_item.";
+
+    protected final static String AVRO_SCHEMA_SUFFIX = "avsc";
+
+    /**
+     * CSV schema is stored as lines of column name and type (separated by
+     * a space), since there is no standard textual representation
+     */
+    protected final static String CSV_SCHEMA_SUFFIX = "csv_columns";
+
+    private ColdStartInputs() { }
+
+    /**
+     * Method for loading serialized {@code MediaItem} for given format.
+     */
+    public static byte[] input(DataFormat format) throws IOException {
+        return _read(_suffix(format));
+    }
+
+    /**
+     * Method for loading schema needed to read and write {@code MediaItem}
+     * for given format, if any; {@code null} if none needed.
+     */
+    public static FormatSchema schema(DataFormat format) throws IOException
+    {
+        switch (format) {
+        case AVRO:
+            return new AvroSchema(new org.apache.avro.Schema.Parser()
+                    .parse(new String(_read(AVRO_SCHEMA_SUFFIX), StandardCharsets.UTF_8)));
+        case PROTOBUF:
+            return ProtobufHelper.mediaItemSchema();
+        case CSV:
+            CsvSchema.Builder b = CsvSchema.builder();
+            for (String line : new String(_read(CSV_SCHEMA_SUFFIX), StandardCharsets.UTF_8).split("\n")) {
+                String[] parts = line.split(" ");
+                b.addColumn(parts[0], CsvSchema.ColumnType.valueOf(parts[1]));
+            }
+            return b.build();
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Simple command-line tool for (re)generating resources into given
+     * directory.
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length != 1) {
+            System.err.println("Usage: java "+ColdStartInputs.class.getName()+" dir");
+            System.exit(1);
+        }
+        File dir = new File(args[0]);
+        dir.mkdirs();
+        for (DataFormat format : DataFormat.values()) {
+            Object item = format.mediaItem();
+            ObjectMapper mapper = format.newMapper();
+            FormatSchema schema = format.schemaFor(mapper, item.getClass());
+            if (format == DataFormat.AVRO) {
+                _write(dir, AVRO_SCHEMA_SUFFIX, ((AvroSchema) schema).getAvroSchema()
+                        .toString(true).getBytes(StandardCharsets.UTF_8));
+            } else if (format == DataFormat.CSV) {
+                StringBuilder sb = new StringBuilder();
+                for (CsvSchema.Column col : (CsvSchema) schema) {
+                    sb.append(col.getName()).append(' ').append(col.getType()).append('\n');
+                }
+                _write(dir, CSV_SCHEMA_SUFFIX, sb.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            _write(dir, _suffix(format), (schema == null)
+                    ? mapper.writeValueAsBytes(item)
+                    : mapper.writer(schema).writeValueAsBytes(item));
+        }
+    }
+
+    private static String _suffix(DataFormat format) {
+        return format.name().toLowerCase();
+    }
+
+    private static byte[] _read(String suffix) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1000);
+        byte[] buf = new byte[4000];
+        int count;
+        try (InputStream in = Dataset.classpath(RESOURCE_PREFIX + suffix).open()) {
+            while ((count = in.read(buf)) > 0) {
+                bytes.write(buf, 0, count);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void _write(File dir, String suffix, byte[] data) throws IOException
+    {
+        String name = RESOURCE_PREFIX.substring(RESOURCE_PREFIX.indexOf('/') + 1) + suffix;
+        try (OutputStream out = new FileOutputStream(new File(dir, name))) {
+            out.write(data);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.fasterxml.jackson.perf.coldstart;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.perf.data.DataFormat;
+
+/**
+ * Cold-start test for constructing the first mapper of given format
+ * in a fresh JVM; see {@link ColdStartReadWrite} for details.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ColdStartMapper
+{
+    @Param({"JSON", "SMILE", "CBOR", "AVRO", "PROTOBUF", "CSV", "ION", "MSGPACK", "BSON",
+        "XML", "YAML", "TOML", "PROPERTIES"})
+    public DataFormat format;
+
+    @Param({"false", "true"})
+    public boolean afterburner;
+
+    @Benchmark
+    public void createMapper(Blackhole bh, ColdStartReadWrite.ClassesLoaded classes) throws Exception {
+        bh.consume(format.newMapper(afterburner));
+    }
+}
@@ -0,0 +1,129 @@
+package com.fasterxml.jackson.perf.coldstart;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.core.FormatSchema;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.perf.data.DataFormat;
+import com.fasterxml.jackson.perf.util.NopOutputStream;
+
+/**
+ * Cold-start tests: time taken by the first {@code calls} reads or writes
+ * of {@code MediaItem} in a fresh JVM (so including construction of
+ * (de)serializers, class loading and interpreted/cold JIT state),
+ * as well as number of classes loaded by them ({@code classes} counter).
+ * Mapper construction is measured separately by {@link ColdStartMapper}.
+ *<p>
+ * Each fork only does a single operation, so use plenty of forks
+ * (default 10) for stable results; class loading is also reported by
+ * JMH class loading profiler ({@code -prof cl}):
+ *<pre>
+ *  ./run-cold-start.sh -p format=JSON,SMILE
+ *</pre>
+ * NOTE: input for read tests (and schema, for formats that need one) is
+ * loaded from precomputed classpath resources (see {@link ColdStartInputs}),
+ * so that no serialization is done before the measured operation: otherwise
+ * both write and read paths would already be warmed up.
+ *<p>
+ * NOTE: command-line options override annotations, so these tests must not
+ * be run with general warmup/iteration/fork settings (like
+ * {@code -wi 7 -i 7 -f 3} of {@code run-all.sh}, which excludes them).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ColdStartReadWrite
+{
+    /**
+     * Counter for number of classes loaded during measured operation
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class ClassesLoaded
+    {
+        private final static ClassLoadingMXBean CLASS_LOADING = ManagementFactory.getClassLoadingMXBean();
+
+        public long classes;
+
+        private long _start;
+
+        @Setup(Level.Invocation)
+        public void start() {
+            _start = CLASS_LOADING.getTotalLoadedClassCount();
+        }
+
+        @TearDown(Level.Invocation)
+        public void stop() {
+            classes = CLASS_LOADING.getTotalLoadedClassCount() - _start;
+        }
+    }
+
+    @Param({"JSON", "SMILE", "CBOR", "AVRO", "PROTOBUF", "CSV", "ION", "MSGPACK", "BSON",
+        "XML", "YAML", "TOML", "PROPERTIES"})
+    public DataFormat format;
+
+    @Param({"false", "true"})
+    public boolean afterburner;
+
+    /**
+     * Number of calls to measure: 1 for the first call only
+     */
+    @Param({"1", "100"})
+    public int calls;
+
+    protected ObjectMapper mapper;
+
+    protected FormatSchema schema;
+
+    protected Object item;
+
+    protected byte[] itemBytes;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception
+    {
+        item = format.mediaItem();
+        mapper = format.newMapper(afterburner);
+        schema = ColdStartInputs.schema(format);
+        itemBytes = ColdStartInputs.input(format);
+    }
+
+    // NOTE: readers and writers must be created as part of measured operation,
+    // since they eagerly construct root value (de)serializer
+
+    @Benchmark
+    public void readPojoMediaItem(Blackhole bh, ClassesLoaded classes) throws Exception {
+        ObjectReader r = _with(mapper.readerFor(item.getClass()), schema);
+        for (int i = 0; i < calls; ++i) {
+            bh.consume(r.readValue(itemBytes));
+        }
+    }
+
+    @Benchmark
+    public void writePojoMediaItem(Blackhole bh, ClassesLoaded classes) throws Exception {
+        ObjectWriter w = _with(mapper.writerFor(item.getClass()), schema);
+        for (int i = 0; i < calls; ++i) {
+            NopOutputStream out = new NopOutputStream();
+            w.writeValue(out, item);
+            bh.consume(out.size());
+        }
+    }
+
+    private static ObjectReader _with(ObjectReader r, FormatSchema schema) {
+        return (schema == null) ? r : r.with(schema);
+    }
+
+    private static ObjectWriter _with(ObjectWriter w, FormatSchema schema) {
+        return (schema == null) ? w : w.with(schema);
+    }
+}
@@ -0,0 +1,81 @@
+package com.fasterxml.jackson.perf.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.core.FormatSchema;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.perf.data.DataFormat;
+import com.fasterxml.jackson.perf.util.NopOutputStream;
+
+/**
+ * Base class for thread-scaling tests: sub-classes only differ by
+ * the {@code @State} scope used, which determines whether threads share
+ * a single {@link ObjectMapper} (and its reader, writer and all the caches)
+ * or each thread gets its own one.
+ *<p>
+ * Thread count is not set here but passed with {@code -t}; see
+ * {@link ThreadScalingRunner} for running all thread counts and reporting
+ * per-core efficiency.
+ *<p>
+ * NOTE: JMH requires {@code @Param}s to be declared in {@code @State} class,
+ * so scope is declared here too; sub-classes override it as necessary.
+ */
+@State(Scope.Benchmark)
+public abstract class MapperScalingBase
+{
+    @Param
+    public DataFormat format;
+
+    protected ObjectReader MEDIA_ITEM_READER;
+
+    protected ObjectWriter MEDIA_ITEM_WRITER;
+
+    protected Object item;
+
+    protected byte[] itemBytes;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        ObjectMapper mapper = format.newMapper();
+        item = format.mediaItem();
+        ObjectReader r = mapper.readerFor(item.getClass());
+        ObjectWriter w = mapper.writerFor(item.getClass());
+        FormatSchema schema = format.schemaFor(mapper, item.getClass());
+        if (schema != null) {
+            r = r.with(schema);
+            w = w.with(schema);
+        }
+        MEDIA_ITEM_READER = r;
+        MEDIA_ITEM_WRITER = w;
+        itemBytes = w.writeValueAsBytes(item);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void readPojoMediaItem(Blackhole bh) throws Exception {
+        bh.consume(MEDIA_ITEM_READER.readValue(itemBytes));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void writePojoMediaItem(Blackhole bh) throws Exception {
+        NopOutputStream out = new NopOutputStream();
+        MEDIA_ITEM_WRITER.writeValue(out, item);
+        bh.consume(out.size());
+    }
+}
@@ -0,0 +1,15 @@
+package com.fasterxml.jackson.perf.concurrent;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Variant in which every benchmark thread constructs its own mapper
+ * (and reader, writer), to be used as the contention-free baseline for
+ * {@link SharedMapperScaling}.
+ */
+@State(Scope.Thread)
+public class PerThreadMapperScaling
+    extends MapperScalingBase
+{
+}
@@ -0,0 +1,14 @@
+package com.fasterxml.jackson.perf.concurrent;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Variant in which all benchmark threads share the same mapper, reader and
+ * writer instances, as is the case with most services.
+ */
+@State(Scope.Benchmark)
+public class SharedMapperScaling
+    extends MapperScalingBase
+{
+}
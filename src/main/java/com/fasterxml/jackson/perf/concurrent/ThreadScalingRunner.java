@@ -0,0 +1,154 @@
+package com.fasterxml.jackson.perf.concurrent;
+
+import java.util.*;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.perf.runner.RunResults;
+
+/**
+ * Runner that runs selected benchmarks with 1, 2, 4, ... N threads
+ * (where N defaults to number of available cores) and reports scores
+ * along with average time per operation for each thread (latency, in
+ * nanoseconds) and per-core efficiency: single-threaded latency relative
+ * to latency with given number of threads, for the same benchmark
+ * (and parameters). For throughput mode, score per thread is reported too;
+ * for other modes score already is per thread.
+ *<p>
+ * Usage:
+ *<pre>
+ *  java -cp target/perf.jar com.fasterxml.jackson.perf.concurrent.ThreadScalingRunner [maxThreads] [jmh options]
+ *</pre>
+ * where JMH options are same as for the main JMH runner; if no benchmarks
+ * are included, defaults to {@code MapperScaling} tests (shared vs per-thread mapper).
+ * If GC profiler is enabled ({@code -prof gc}), normalized allocation rate
+ * (bytes per operation) is included as well.
+ */
+public class ThreadScalingRunner
+{
+    protected final static String DEFAULT_INCLUDE = ".*MapperScaling.*";
+
+    public static void main(String[] args) throws Exception
+    {
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        if (args.length > 0 && args[0].matches("\\d+")) {
+            maxThreads = Integer.parseInt(args[0]);
+            args = Arrays.copyOfRange(args, 1, args.length);
+        }
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+
+        // Key is benchmark+params, value scores by thread count
+        Map<String, SortedMap<Integer, Double>> scores = new TreeMap<>();
+        Map<String, Map<Integer, Double>> allocs = new HashMap<>();
+        Map<String, Map<Integer, Double>> latencies = new HashMap<>();
+        // units and modes may differ between benchmarks
+        Map<String, String> units = new HashMap<>();
+        Map<String, Mode> modes = new HashMap<>();
+
+        for (int threads : threadCounts(maxThreads)) {
+            ChainedOptionsBuilder opts = new OptionsBuilder()
+                    .parent(cmdOptions)
+                    .threads(threads);
+            if (cmdOptions.getIncludes().isEmpty()) {
+                opts = opts.include(DEFAULT_INCLUDE);
+            }
+            for (RunResult result : new Runner(opts.build()).run()) {
+                final String key = RunResults.key(result.getParams());
+                final double score = result.getPrimaryResult().getScore();
+                scores.computeIfAbsent(key, k -> new TreeMap<>())
+                    .put(threads, score);
+                Double latency = latencyNanos(result.getParams(), threads, score);
+                if (latency != null) {
+                    latencies.computeIfAbsent(key, k -> new HashMap<>())
+                        .put(threads, latency);
+                }
+                units.put(key, result.getPrimaryResult().getScoreUnit());
+                modes.put(key, result.getParams().getMode());
+                Double alloc = RunResults.allocRateNorm(result);
+                if (alloc != null) {
+                    allocs.computeIfAbsent(key, k -> new HashMap<>())
+                        .put(threads, alloc);
+                }
+            }
+        }
+        printTable(scores, allocs, latencies, units, modes);
+    }
+
+    /**
+     * Method for calculating average time (in nanoseconds) each thread spends
+     * per operation.
+     *
+     * @return Average time per operation, if available for benchmark mode used;
+     *    {@code null} if not
+     */
+    protected static Double latencyNanos(BenchmarkParams params, int threads, double score)
+    {
+        final double unitNanos = params.getTimeUnit().toNanos(1L);
+        switch (params.getMode()) {
+        case Throughput: // ops per time unit, for all threads
+            return (score > 0.0) ? (unitNanos * threads / score) : null;
+        case AverageTime: // time per op, for each thread
+        case SampleTime:
+            return unitNanos * score;
+        default:
+            return null;
+        }
+    }
+
+    protected static List<Integer> threadCounts(int maxThreads) {
+        List<Integer> counts = new ArrayList<>();
+        for (int i = 1; i < maxThreads; i <<= 1) {
+            counts.add(i);
+        }
+        counts.add(maxThreads);
+        return counts;
+    }
+
+    protected static void printTable(Map<String, SortedMap<Integer, Double>> scores,
+            Map<String, Map<Integer, Double>> allocs,
+            Map<String, Map<Integer, Double>> latencies,
+            Map<String, String> units, Map<String, Mode> modes)
+    {
+        int width = 10;
+        for (String key : scores.keySet()) {
+            width = Math.max(width, key.length());
+        }
+        final String rowFormat = "%-"+width+"s  %7s  %14s  %-12s  %14s  %10s  %12s  %10s\n";
+        System.out.println();
+        System.out.printf(rowFormat, "Benchmark", "Threads", "Score", "Units", "Score/thread", "Efficiency",
+                "ns/op/thread", "B/op");
+        for (Map.Entry<String, SortedMap<Integer, Double>> entry : scores.entrySet()) {
+            final String key = entry.getKey();
+            final Map<Integer, Double> keyLatencies = latencies.getOrDefault(key, Collections.emptyMap());
+            final Double single = keyLatencies.get(1);
+            // for other modes score is already per thread (time per op of each thread)
+            final boolean throughput = (modes.get(key) == Mode.Throughput);
+            for (Map.Entry<Integer, Double> score : entry.getValue().entrySet()) {
+                final int threads = score.getKey();
+                Double alloc = allocs.getOrDefault(key, Collections.emptyMap())
+                        .get(threads);
+                Double latency = keyLatencies.get(threads);
+                String efficiency = (single == null || latency == null) ? "N/A"
+                        : String.format("%.1f%%", 100.0 * single / latency);
+                System.out.printf(rowFormat, key, threads,
+                        _format(score.getValue()),
+                        units.get(key),
+                        throughput ? _format(score.getValue() / threads) : "N/A",
+                        efficiency,
+                        (latency == null) ? "N/A" : String.format("%.1f", latency),
+                        (alloc == null) ? "N/A" : String.format("%.1f", alloc));
+            }
+        }
+    }
+
+    // small values (like seconds per op) would show up as zero otherwise
+    private static String _format(double value) {
+        return String.format((value > 0.0 && value < 1.0) ? "%.3e" : "%.3f", value);
+    }
+}
@@ -0,0 +1,28 @@
+package com.fasterxml.jackson.perf.csv;
+
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+
+import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.perf.WritePerfSinksJackson;
+import com.fasterxml.jackson.perf.model.FlattenedMediaItem;
+import com.fasterxml.jackson.perf.model.MediaItems;
+
+@State(Scope.Thread)
+public class CsvStdWriteSinks
+    extends WritePerfSinksJackson<FlattenedMediaItem>
+{
+    private static final CsvMapper MAPPER = CsvMapper.builder()
+            .disable(CsvGenerator.Feature.STRICT_CHECK_FOR_QUOTING)
+            .build();
+    private final static CsvSchema _mediaItemSchema;
+    static {
+        _mediaItemSchema = MAPPER.typedSchemaFor(FlattenedMediaItem.class);
+    }
+
+    public CsvStdWriteSinks() {
+        super(MAPPER, _mediaItemSchema, MediaItems.flatMediaItem());
+    }
+}
@@ -0,0 +1,61 @@
+package com.fasterxml.jackson.perf.custom;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Helper class for loading user-provided JSON sample payloads from a directory.
+ */
+public class CustomPayloads
+{
+    /**
+     * Name used to select all {@code .json} files in directory
+     */
+    public final static String ALL_FILES = "*";
+
+    /**
+     * Method for loading either specified file, or all JSON files (if name is
+     * {@link #ALL_FILES}) from given directory.
+     *
+     * @return Contents of files, keyed by file name, ordered by file name
+     */
+    public static Map<String, byte[]> load(String dirName, String fileName) throws IOException
+    {
+        File dir = new File(dirName);
+        if (!dir.isDirectory()) {
+            throw new IllegalArgumentException("No payload directory '"+dir.getAbsolutePath()
+                    +"': specify one with '-p dir=...'");
+        }
+        File[] files;
+        if (ALL_FILES.equals(fileName)) {
+            files = dir.listFiles((d, name) -> name.endsWith(".json"));
+            Arrays.sort(files);
+        } else {
+            files = new File[] { new File(dir, fileName) };
+        }
+        if (files.length == 0) {
+            throw new IllegalArgumentException("No JSON files in payload directory '"
+                    +dir.getAbsolutePath()+"'");
+        }
+        Map<String, byte[]> payloads = new LinkedHashMap<>();
+        for (File f : files) {
+            payloads.put(f.getName(), Files.readAllBytes(f.toPath()));
+        }
+        return payloads;
+    }
+
+    /**
+     * Helper method for calculating total length of given documents
+     */
+    public static int totalLength(byte[][] docs) {
+        int total = 0;
+        for (byte[] doc : docs) {
+            total += doc.length;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,130 @@
+package com.fasterxml.jackson.perf.custom;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.core.FormatSchema;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.perf.AuxStateSize;
+import com.fasterxml.jackson.perf.AuxStateThroughput;
+import com.fasterxml.jackson.perf.data.DataFormat;
+import com.fasterxml.jackson.perf.util.NopOutputStream;
+
+/**
+ * Typed (POJO) reading and writing tests over user-provided JSON payloads
+ * (see {@link CustomUntypedReadWrite}), bound to POJO class specified with
+ * {@code pojoClass} parameter (class must be included in classpath), with and
+ * without Afterburner.
+ *<pre>
+ *  java -cp target/perf.jar:my-model.jar org.openjdk.jmh.Main CustomPojoReadWrite -p dir=/path/to/samples -p pojoClass=com.acme.Order
+ *</pre>
+ * Unlike with untyped tests, input for formats is produced by binding JSON
+ * into POJOs and then serializing them with format mapper (same as with
+ * {@code MediaItem} tests), so that formats that require schema are included too.
+ *<p>
+ * NOTE: CSV not included since it can only handle flat POJOs.
+ *<p>
+ * By default, {@code MediaItem} samples from {@code payloads/} directory (under
+ * working directory) are used.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CustomPojoReadWrite
+{
+    /**
+     * Directory with payload files; default contains sample {@code MediaItem} documents
+     */
+    @Param("payloads")
+    public String dir;
+
+    @Param(CustomPayloads.ALL_FILES)
+    public String file;
+
+    /**
+     * Fully-qualified name of POJO class to bind payloads to; default matches
+     * sample payloads included in {@code payloads/}
+     */
+    @Param("com.fasterxml.jackson.perf.model.MediaItem")
+    public String pojoClass;
+
+    @Param({"JSON", "SMILE", "CBOR", "AVRO", "PROTOBUF", "ION", "MSGPACK", "BSON",
+        "XML", "YAML", "TOML", "PROPERTIES"})
+    public DataFormat format;
+
+    @Param({"false", "true"})
+    public boolean afterburner;
+
+    protected ObjectReader READER;
+
+    protected ObjectWriter WRITER;
+
+    protected byte[][] inputs;
+
+    protected Object[] values;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        if (pojoClass.isEmpty()) {
+            throw new IllegalStateException("No POJO class specified: use '-p pojoClass=...'");
+        }
+        final Class<?> type = Class.forName(pojoClass);
+        final Map<String, byte[]> payloads = CustomPayloads.load(dir, file);
+        final ObjectMapper jsonMapper = DataFormat.JSON.newMapper();
+        final ObjectMapper mapper = format.newMapper(afterburner);
+        ObjectReader r = mapper.readerFor(type);
+        ObjectWriter w = mapper.writerFor(type);
+        FormatSchema schema = format.schemaFor(mapper, type);
+        if (schema != null) {
+            r = r.with(schema);
+            w = w.with(schema);
+        }
+        READER = r;
+        WRITER = w;
+
+        inputs = new byte[payloads.size()][];
+        values = new Object[inputs.length];
+        int i = 0;
+        for (byte[] json : payloads.values()) {
+            values[i] = jsonMapper.readValue(json, type);
+            inputs[i] = WRITER.writeValueAsBytes(values[i]);
+            ++i;
+        }
+    }
+
+    @Benchmark
+    public void readPojo(Blackhole bh, AuxStateSize size, AuxStateThroughput rate) throws Exception {
+        final int len = CustomPayloads.totalLength(inputs);
+        size.set(len);
+        rate.add(len);
+        for (byte[] input : inputs) {
+            bh.consume(READER.readValue(input));
+        }
+    }
+
+    @Benchmark
+    public void writePojo(Blackhole bh, AuxStateSize size, AuxStateThroughput rate) throws Exception {
+        int len = 0;
+        for (Object value : values) {
+            NopOutputStream out = new NopOutputStream();
+            WRITER.writeValue(out, value);
+            len += out.size();
+        }
+        size.set(len);
+        rate.add(len);
+        bh.consume(len);
+    }
+}
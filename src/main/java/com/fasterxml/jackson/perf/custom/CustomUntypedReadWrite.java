@@ -0,0 +1,136 @@
+package com.fasterxml.jackson.perf.custom;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.perf.AuxStateSize;
+import com.fasterxml.jackson.perf.AuxStateThroughput;
+import com.fasterxml.jackson.perf.data.DataFormat;
+import com.fasterxml.jackson.perf.data.InputConverter;
+import com.fasterxml.jackson.perf.util.NopOutputStream;
+
+/**
+ * Untyped ({@code Map}) and tree ({@code JsonNode}) reading and writing tests
+ * over user-provided JSON payloads (from directory specified with {@code dir}
+ * parameter), converted to all schemaless formats using
+ * {@link InputConverter#stdConverter(ObjectMapper, Map)}.
+ * Each operation reads (or writes) all payloads selected ({@code file} is either
+ * name of a single file, or {@code *} for all {@code .json} files).
+ *<pre>
+ *  java -jar target/perf.jar CustomUntypedReadWrite -p dir=/path/to/samples -p file=order.json,cart.json
+ *</pre>
+ * By default, {@code MediaItem} samples from {@code payloads/} directory (under
+ * working directory) are used.
+ *<p>
+ * Afterburner has no effect on untyped/tree processing so it is only included
+ * in {@link CustomPojoReadWrite}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CustomUntypedReadWrite
+{
+    /**
+     * Directory with payload files; default contains sample {@code MediaItem} documents
+     */
+    @Param("payloads")
+    public String dir;
+
+    @Param(CustomPayloads.ALL_FILES)
+    public String file;
+
+    // XML not included as it can not represent all JSON structures (nested arrays)
+    @Param({"JSON", "SMILE", "CBOR", "ION", "MSGPACK", "BSON", "YAML", "TOML", "PROPERTIES"})
+    public DataFormat format;
+
+    protected ObjectReader UNTYPED_READER;
+
+    protected ObjectReader NODE_READER;
+
+    protected ObjectWriter WRITER;
+
+    protected byte[][] inputs;
+
+    protected Object[] untyped;
+
+    protected JsonNode[] nodes;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        final Map<String, byte[]> payloads = CustomPayloads.load(dir, file);
+        final ObjectMapper mapper = format.newMapper();
+        final InputConverter conv = InputConverter.stdConverter(mapper, payloads);
+        UNTYPED_READER = mapper.readerFor(Object.class);
+        NODE_READER = mapper.readerFor(JsonNode.class);
+        WRITER = mapper.writer();
+
+        inputs = new byte[payloads.size()][];
+        untyped = new Object[inputs.length];
+        nodes = new JsonNode[inputs.length];
+        int i = 0;
+        for (String name : payloads.keySet()) {
+            inputs[i] = conv.bytes(name);
+            untyped[i] = UNTYPED_READER.readValue(inputs[i]);
+            nodes[i] = NODE_READER.readValue(inputs[i]);
+            ++i;
+        }
+    }
+
+    @Benchmark
+    public void readUntyped(Blackhole bh, AuxStateSize size, AuxStateThroughput rate) throws Exception {
+        final int len = CustomPayloads.totalLength(inputs);
+        size.set(len);
+        rate.add(len);
+        for (byte[] input : inputs) {
+            bh.consume(UNTYPED_READER.readValue(input));
+        }
+    }
+
+    @Benchmark
+    public void readNode(Blackhole bh, AuxStateSize size, AuxStateThroughput rate) throws Exception {
+        final int len = CustomPayloads.totalLength(inputs);
+        size.set(len);
+        rate.add(len);
+        for (byte[] input : inputs) {
+            bh.consume(NODE_READER.readValue(input));
+        }
+    }
+
+    @Benchmark
+    public void writeUntyped(Blackhole bh, AuxStateSize size, AuxStateThroughput rate) throws Exception {
+        bh.consume(write(untyped, size, rate));
+    }
+
+    @Benchmark
+    public void writeNode(Blackhole bh, AuxStateSize size, AuxStateThroughput rate) throws Exception {
+        bh.consume(write(nodes, size, rate));
+    }
+
+    protected int write(Object[] values, AuxStateSize size, AuxStateThroughput rate) throws Exception
+    {
+        int len = 0;
+        for (Object value : values) {
+            NopOutputStream out = new NopOutputStream();
+            WRITER.writeValue(out, value);
+            len += out.size();
+        }
+        size.set(len);
+        rate.add(len);
+        return len;
+    }
+}
@@ -0,0 +1,218 @@
+package com.fasterxml.jackson.perf.data;
+
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.yaml.snakeyaml.LoaderOptions;
+
+import com.fasterxml.jackson.core.FormatSchema;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.avro.AvroMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.ion.IonFactory;
+import com.fasterxml.jackson.dataformat.javaprop.JavaPropsMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.dataformat.toml.TomlMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.perf.model.MediaItems;
+import com.fasterxml.jackson.perf.protob.ProtobufHelper;
+import com.fasterxml.jackson.perf.xml.StaxProvider;
+
+import de.undercouch.bson4jackson.BsonFactory;
+import de.undercouch.bson4jackson.BsonModule;
+
+/**
+ * Enumeration of all the data formats tested by format-specific benchmark
+ * classes, for use as a {@code @Param} by suites that want to run the same
+ * test across all (or a subset of) formats without one class per format.
+ *<p>
+ * Mappers are constructed with the same configuration as the matching
+ * {@code xxxStdReadVanilla} / {@code xxxStdWriteVanilla} classes.
+ */
+public enum DataFormat
+{
+    JSON(true, true) {
+        @Override
+        protected ObjectMapper _newMapper() {
+            return new JsonMapper();
+        }
+    },
+    SMILE(false, true) {
+        @Override
+        protected ObjectMapper _newMapper() {
+            return new SmileMapper();
+        }
+    },
+    CBOR(false, true) {
+        @Override
+        protected ObjectMapper _newMapper() {
+            return new CBORMapper();
+        }
+    },
+    AVRO(false, false) {
+        @Override
+        protected ObjectMapper _newMapper() {
+            return new AvroMapper();
+        }
+
+        @Override
+        public FormatSchema schemaFor(ObjectMapper mapper, Class<?> type) {
+            try {
+                return ((AvroMapper) mapper).schemaFor(type);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    },
+    PROTOBUF(false, false) {
+        @Override
+        protected ObjectMapper _newMapper() {
+            return new ProtobufMapper();
+        }
+
+        @Override
+        public FormatSchema schemaFor(ObjectMapper mapper, Class<?> type) {
+            // MediaItem has hand-written schema; others need to be generated
+            if (type == MediaItems.stdMediaItem().getClass()) {
+                return ProtobufHelper.mediaItemSchema();
+            }
+            try {
+                return ((ProtobufMapper) mapper).generateSchemaFor(type);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    },
+    CSV(true, false) {
+        @Override
+        protected ObjectMapper _newMapper() {
+            return new CsvMapper();
+        }
+
+        // CSV can only deal with flat data so it gets its own variant of MediaItem
+        @Override
+        public Object mediaItem() {
+            return MediaItems.flatMediaItem();
+        }
+
+        @Override
+        public FormatSchema schemaFor(ObjectMapper mapper, Class<?> type) {
+            return ((CsvMapper) mapper).typedSchemaFor(type);
+        }
+    },
+    ION(false, true) {
+        @Override
+        protected ObjectMapper _newMapper() {
+            return new ObjectMapper(new IonFactory());
+        }
+    },
+    MSGPACK(false, true) {
+        @Override
+        protected ObjectMapper _newMapper() {
+            return new ObjectMapper(new MessagePackFactory());
+        }
+    },
+    BSON(false, true) {
+        @Override
+        protected ObjectMapper _newMapper() {
+            return new ObjectMapper(new BsonFactory())
+                    .registerModule(new BsonModule());
+        }
+    },
+    XML(true, true) {
+        @Override
+        protected ObjectMapper _newMapper() {
+            return StaxProvider.xmlMapper();
+        }
+    },
+    YAML(true, true) {
+        @Override
+        protected ObjectMapper _newMapper() {
+            return new YAMLMapper();
+        }
+
+        @Override
+        public ObjectMapper newMapperForLargeContent() {
+            // SnakeYAML limits documents to 3 million code points by default
+            LoaderOptions opts = new LoaderOptions();
+            opts.setCodePointLimit(Integer.MAX_VALUE);
+            return new YAMLMapper(YAMLFactory.builder().loaderOptions(opts).build());
+        }
+    },
+    TOML(true, true) {
+        @Override
+        protected ObjectMapper _newMapper() {
+            return new TomlMapper();
+        }
+    },
+    PROPERTIES(true, true) {
+        @Override
+        protected ObjectMapper _newMapper() {
+            return new JavaPropsMapper();
+        }
+    },
+    ;
+
+    private final boolean _textual;
+
+    private final boolean _schemaless;
+
+    private DataFormat(boolean textual, boolean schemaless) {
+        _textual = textual;
+        _schemaless = schemaless;
+    }
+
+    protected abstract ObjectMapper _newMapper();
+
+    /**
+     * Whether format is textual, that is, can be read from {@link java.io.Reader}
+     * and written using {@link java.io.Writer} (or as {@link String}).
+     */
+    public boolean isTextual() { return _textual; }
+
+    /**
+     * Whether format can read and write content without schema, meaning that
+     * it can be used for "untyped" and tree ({@code JsonNode}) tests too.
+     */
+    public boolean isSchemaless() { return _schemaless; }
+
+    public ObjectMapper newMapper() {
+        return _newMapper();
+    }
+
+    public ObjectMapper newMapper(boolean afterburner) {
+        ObjectMapper mapper = _newMapper();
+        if (afterburner) {
+            mapper.registerModule(new AfterburnerModule());
+        }
+        return mapper;
+    }
+
+    /**
+     * Method for constructing mapper (configured same as with {@link #newMapper()})
+     * that can also read documents exceeding default size limits of
+     * format-specific parser, if any (like SnakeYAML code point limit).
+     */
+    public ObjectMapper newMapperForLargeContent() {
+        return _newMapper();
+    }
+
+    /**
+     * Method for accessing {@code MediaItem} value to use for this format;
+     * usually {@link MediaItems#stdMediaItem()}.
+     */
+    public Object mediaItem() {
+        return MediaItems.stdMediaItem();
+    }
+
+    /**
+     * Method for constructing schema needed to read and write values of
+     * given type, if format requires one; {@code null} if not.
+     */
+    public FormatSchema schemaFor(ObjectMapper mapper, Class<?> type) {
+        return null;
+    }
+}
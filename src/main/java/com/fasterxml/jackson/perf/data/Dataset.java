@@ -0,0 +1,159 @@
+package com.fasterxml.jackson.perf.data;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import com.fasterxml.jackson.perf.util.ByteBufferInputStream;
+
+/**
+ * Input document (or sequence of documents, like NDJSON) that may be read
+ * any number of times, without necessarily being held on heap: besides
+ * heap-based {@code byte[]} content, datasets may be served from
+ * memory-mapped files or from classpath resources.
+ *
+ * @see Datasets
+ */
+public abstract class Dataset
+{
+    /**
+     * Maximum size of a single mapped segment; needs to be below 2 gigabytes.
+     */
+    protected final static long MAX_SEGMENT_SIZE = 1L << 30;
+
+    protected final String _name;
+
+    protected Dataset(String name) {
+        _name = name;
+    }
+
+    public String name() { return _name; }
+
+    /**
+     * Length of content in bytes, if known; -1 if not.
+     */
+    public abstract long length();
+
+    /**
+     * Method for opening a new stream for reading content from the beginning.
+     */
+    public abstract InputStream open() throws IOException;
+
+    @Override
+    public String toString() {
+        return _name;
+    }
+
+    /*
+    /**********************************************************************
+    /* Factory methods
+    /**********************************************************************
+     */
+
+    public static Dataset heap(String name, byte[] content) {
+        return new Heap(name, content);
+    }
+
+    /**
+     * Factory method for reading contents of given file on heap.
+     */
+    public static Dataset heap(File f) throws IOException {
+        return new Heap(f.getPath(), Files.readAllBytes(f.toPath()));
+    }
+
+    /**
+     * Factory method for memory-mapping given file (of any size): content is
+     * not loaded on heap (but is paged in by OS as needed).
+     */
+    public static Dataset mapped(File f) throws IOException {
+        return new Mapped(f);
+    }
+
+    public static Dataset classpath(String resource) {
+        return new Classpath(resource);
+    }
+
+    /*
+    /**********************************************************************
+    /* Implementations
+    /**********************************************************************
+     */
+
+    public static class Heap extends Dataset
+    {
+        protected final byte[] _content;
+
+        public Heap(String name, byte[] content) {
+            super(name);
+            _content = content;
+        }
+
+        public byte[] bytes() { return _content; }
+
+        @Override
+        public long length() { return _content.length; }
+
+        @Override
+        public InputStream open() {
+            return new ByteArrayInputStream(_content);
+        }
+    }
+
+    public static class Mapped extends Dataset
+    {
+        protected final ByteBuffer[] _segments;
+
+        protected final long _length;
+
+        public Mapped(File f) throws IOException
+        {
+            super(f.getPath());
+            try (FileChannel ch = FileChannel.open(f.toPath(), StandardOpenOption.READ)) {
+                _length = ch.size();
+                int count = (int) ((_length + MAX_SEGMENT_SIZE - 1) / MAX_SEGMENT_SIZE);
+                _segments = new ByteBuffer[count];
+                for (int i = 0; i < count; ++i) {
+                    long offset = i * MAX_SEGMENT_SIZE;
+                    _segments[i] = ch.map(FileChannel.MapMode.READ_ONLY, offset,
+                            Math.min(MAX_SEGMENT_SIZE, _length - offset));
+                }
+            }
+        }
+
+        /**
+         * Accessor for mapped segments: all but the last one are
+         * {@link #MAX_SEGMENT_SIZE} bytes long.
+         */
+        public ByteBuffer[] segments() { return _segments; }
+
+        @Override
+        public long length() { return _length; }
+
+        @Override
+        public InputStream open() {
+            return new ByteBufferInputStream(_segments);
+        }
+    }
+
+    public static class Classpath extends Dataset
+    {
+        public Classpath(String resource) {
+            // Absolute, since relative to this class otherwise
+            super(resource.startsWith("/") ? resource : ("/"+resource));
+        }
+
+        @Override
+        public long length() { return -1L; }
+
+        @Override
+        public InputStream open() throws IOException {
+            InputStream in = Dataset.class.getResourceAsStream(_name);
+            if (in == null) {
+                throw new FileNotFoundException("No classpath resource '"+_name+"'");
+            }
+            return in;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.fasterxml.jackson.perf.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link Dataset}s, accessed by name. Datasets are either
+ * registered explicitly, or resolved from names of form:
+ *<ul>
+ * <li>{@code mmap:path/to/file}: memory-mapped file
+ *  </li>
+ * <li>{@code heap:path/to/file}: file read into a {@code byte[]}
+ *  </li>
+ * <li>{@code classpath:path/to/resource}: classpath resource (streamed)
+ *  </li>
+ * <li>Name of an {@link InputData} value (like {@code CITM_CATALOG_WS})
+ *  </li>
+ *</ul>
+ * Resolved datasets are cached so that files are only read (or mapped) once.
+ */
+public class Datasets
+{
+    public final static String PREFIX_MAPPED = "mmap:";
+    public final static String PREFIX_HEAP = "heap:";
+    public final static String PREFIX_CLASSPATH = "classpath:";
+
+    private final static ConcurrentHashMap<String, Dataset> _datasets = new ConcurrentHashMap<>();
+
+    private Datasets() { }
+
+    public static void register(String name, Dataset dataset) {
+        _datasets.put(name, dataset);
+    }
+
+    public static Dataset get(String name) throws IOException
+    {
+        Dataset dataset = _datasets.get(name);
+        if (dataset == null) {
+            dataset = _resolve(name);
+            Dataset old = _datasets.putIfAbsent(name, dataset);
+            if (old != null) {
+                dataset = old;
+            }
+        }
+        return dataset;
+    }
+
+    protected static Dataset _resolve(String name) throws IOException
+    {
+        if (name.startsWith(PREFIX_MAPPED)) {
+            return Dataset.mapped(new File(name.substring(PREFIX_MAPPED.length())));
+        }
+        if (name.startsWith(PREFIX_HEAP)) {
+            return Dataset.heap(new File(name.substring(PREFIX_HEAP.length())));
+        }
+        if (name.startsWith(PREFIX_CLASSPATH)) {
+            return Dataset.classpath(name.substring(PREFIX_CLASSPATH.length()));
+        }
+        try {
+            InputData input = InputData.valueOf(name);
+            return Dataset.heap(name, input.bytes());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unrecognized dataset '"+name+"': should be name of "
+                    +InputData.class.getSimpleName()+" or start with '"+PREFIX_MAPPED+"', '"
+                    +PREFIX_HEAP+"' or '"+PREFIX_CLASSPATH+"'");
+        }
+    }
+}
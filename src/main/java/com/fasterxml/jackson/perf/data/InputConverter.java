@@ -2,7 +2,10 @@ package com.fasterxml.jackson.perf.data;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,11 +16,23 @@ public class InputConverter
 {
     protected final EnumMap<InputData, byte[]> _data;
 
+    /**
+     * Additional named documents, if any (see {@link #stdConverter(ObjectMapper, Map)})
+     */
+    protected final Map<String, byte[]> _customData;
+
     protected InputConverter(EnumMap<InputData, byte[]> genericData,
     		byte[] mib)
+    {
+        this(genericData, Collections.<String, byte[]>emptyMap(), mib);
+    }
+
+    protected InputConverter(EnumMap<InputData, byte[]> genericData,
+            Map<String, byte[]> customData, byte[] mib)
     {
         super(mib);
         _data = genericData;
+        _customData = customData;
     }
 
     public static InputConverter nopConverter(ObjectMapper targetMapper)
@@ -40,21 +55,10 @@ public class InputConverter
     public static InputConverter stdConverter(ObjectMapper targetMapper)
     {
         EnumMap<InputData, byte[]> data = new EnumMap<InputData, byte[]>(InputData.class);
-        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4000);
-        final JsonFactory jsonF = new JsonFactory();
-        final JsonFactory targetF = targetMapper.getFactory();
 
         try {
 	        for (InputData input : InputData.values()) {
-	            JsonParser in = jsonF.createParser(input.bytes());
-	            bytes.reset();
-	            JsonGenerator out = targetF.createGenerator(bytes);
-	            while (in.nextToken() != null) {
-	                out.copyCurrentStructure(in);
-	            }
-	            in.close();
-	            out.close();
-	            data.put(input, bytes.toByteArray());
+	            data.put(input, convert(targetMapper, input.bytes()));
 	        }
 	        byte[] mib = targetMapper.writeValueAsBytes(MediaItems.stdMediaItem());
 	        return new InputConverter(data, mib);
@@ -62,7 +66,53 @@ public class InputConverter
         	throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Variant of {@link #stdConverter(ObjectMapper)} that also converts given
+     * additional named JSON documents (like user-provided sample payloads),
+     * accessible using {@link #bytes(String)}.
+     */
+    public static InputConverter stdConverter(ObjectMapper targetMapper,
+            Map<String, byte[]> customJson)
+    {
+        InputConverter std = stdConverter(targetMapper);
+        Map<String, byte[]> custom = new LinkedHashMap<String, byte[]>();
+        try {
+            for (Map.Entry<String, byte[]> entry : customJson.entrySet()) {
+                custom.put(entry.getKey(), convert(targetMapper, entry.getValue()));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new InputConverter(std._data, custom, std._mediaItemBytes);
+    }
+
+    /**
+     * Helper method for converting given JSON content into format
+     * of given mapper (token by token, without binding).
+     */
+    public static byte[] convert(ObjectMapper targetMapper, byte[] json) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length);
+        try (JsonParser in = new JsonFactory().createParser(json)) {
+            JsonGenerator out = targetMapper.getFactory().createGenerator(bytes);
+            while (in.nextToken() != null) {
+                out.copyCurrentStructure(in);
+            }
+            out.close();
+        }
+        return bytes.toByteArray();
+    }
+
     public byte[] bytes(InputData type) {
         return _data.get(type);
     }
+
+    /**
+     * Accessor for additional named document, converted into target format;
+     * {@code null} if no such document.
+     */
+    public byte[] bytes(String name) {
+        return _customData.get(name);
+    }
 }
@@ -32,7 +32,9 @@ public enum InputData
         ByteArrayOutputStream bytes = new ByteArrayOutputStream(5000);
         byte[] buf = new byte[4000];
         int count;
-        FileInputStream in = new FileInputStream(f);
+        // Files are also included in jar, for running from other directories
+        InputStream in = f.exists() ? new FileInputStream(f)
+                : Dataset.classpath(filename).open();
         
         while ((count = in.read(buf)) > 0) {
             bytes.write(buf, 0, count);
@@ -0,0 +1,417 @@
+package com.fasterxml.jackson.perf.data;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Generator for synthetic JSON documents of configurable shape: nesting depth,
+ * fan-out (entries per Object/array), field name cardinality, String length
+ * distribution, mix of numeric types and ratio of non-ASCII characters.
+ *<p>
+ * Generation is deterministic: same settings (including seed) always produce
+ * the same document. Generated JSON may be converted into other formats
+ * using {@link InputConverter#convert}.
+ *<p>
+ * Instances are immutable; use {@code withXxx()} methods to create
+ * differently configured instances:
+ *<pre>
+ *  byte[] json = new SyntheticDataGenerator(123L)
+ *      .withDepth(4).withFanOut(10)
+ *      .withUnicodeRatio(0.1)
+ *      .generateJson();
+ *</pre>
+ */
+public class SyntheticDataGenerator
+{
+    /**
+     * Distribution of String value lengths, around configured mean length.
+     */
+    public enum LengthDistribution {
+        /**
+         * All Strings have the same length.
+         */
+        FIXED {
+            @Override
+            int nextLength(Random r, int mean) {
+                return mean;
+            }
+        },
+        /**
+         * Lengths uniformly distributed between 0 and twice the mean.
+         */
+        UNIFORM {
+            @Override
+            int nextLength(Random r, int mean) {
+                return r.nextInt(2 * mean + 1);
+            }
+        },
+        /**
+         * Exponential distribution: mostly short Strings, with a long tail.
+         */
+        EXPONENTIAL {
+            @Override
+            int nextLength(Random r, int mean) {
+                return (int) (-mean * Math.log(1.0 - r.nextDouble()));
+            }
+        },
+        ;
+
+        abstract int nextLength(Random r, int mean);
+    }
+
+    protected final long _seed;
+
+    protected final int _depth;
+
+    protected final int _fanOut;
+
+    protected final int _fieldNameCardinality;
+
+    protected final int _stringLength;
+
+    protected final LengthDistribution _lengthDistribution;
+
+    /**
+     * Probability of a value (other than at maximum depth) being an Object or array
+     * instead of a scalar
+     */
+    protected final double _nestingRatio;
+
+    /**
+     * Probability of a scalar value being a number instead of a String
+     */
+    protected final double _numberRatio;
+
+    /**
+     * Relative weights of {@code int}, {@code long}, {@code double} and
+     * {@link BigDecimal} numbers.
+     */
+    protected final int[] _numberMix;
+
+    /**
+     * Probability of a character in a String value being non-ASCII
+     */
+    protected final double _unicodeRatio;
+
+    public SyntheticDataGenerator(long seed) {
+        this(seed, 3, 8, 100, 16, LengthDistribution.UNIFORM, 0.25, 0.5,
+                new int[] { 1, 1, 1, 1 }, 0.0);
+    }
+
+    protected SyntheticDataGenerator(long seed, int depth, int fanOut,
+            int fieldNameCardinality, int stringLength, LengthDistribution lengthDistribution,
+            double nestingRatio, double numberRatio, int[] numberMix, double unicodeRatio)
+    {
+        _seed = seed;
+        _depth = depth;
+        _fanOut = fanOut;
+        _fieldNameCardinality = fieldNameCardinality;
+        _stringLength = stringLength;
+        _lengthDistribution = lengthDistribution;
+        _nestingRatio = nestingRatio;
+        _numberRatio = numberRatio;
+        _numberMix = numberMix;
+        _unicodeRatio = unicodeRatio;
+    }
+
+    /**
+     * Simple command-line tool for generating NDJSON test files:
+     *<pre>
+     *  java -cp target/perf.jar com.fasterxml.jackson.perf.data.SyntheticDataGenerator file docCount [depth] [fanOut]
+     *</pre>
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length < 2) {
+            System.err.println("Usage: java "+SyntheticDataGenerator.class.getName()
+                    +" file docCount [depth] [fanOut]");
+            System.exit(1);
+        }
+        SyntheticDataGenerator gen = new SyntheticDataGenerator(0L);
+        if (args.length > 2) {
+            gen = gen.withDepth(Integer.parseInt(args[2]));
+        }
+        if (args.length > 3) {
+            gen = gen.withFanOut(Integer.parseInt(args[3]));
+        }
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(args[0]))) {
+            gen.generateNdjson(out, Integer.parseInt(args[1]));
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Fluent factory methods
+    /**********************************************************************
+     */
+
+    public SyntheticDataGenerator withSeed(long seed) {
+        return new SyntheticDataGenerator(seed, _depth, _fanOut, _fieldNameCardinality,
+                _stringLength, _lengthDistribution, _nestingRatio, _numberRatio, _numberMix, _unicodeRatio);
+    }
+
+    /**
+     * @param depth Maximum nesting depth of Objects and arrays; 1 means only
+     *    root-level Object (with scalar values)
+     */
+    public SyntheticDataGenerator withDepth(int depth) {
+        return new SyntheticDataGenerator(_seed, _required(depth, "depth"), _fanOut, _fieldNameCardinality,
+                _stringLength, _lengthDistribution, _nestingRatio, _numberRatio, _numberMix, _unicodeRatio);
+    }
+
+    /**
+     * @param fanOut Number of entries in each Object and array (for Objects
+     *    limited to field name cardinality, as names are unique within an Object)
+     */
+    public SyntheticDataGenerator withFanOut(int fanOut) {
+        return new SyntheticDataGenerator(_seed, _depth, _required(fanOut, "fanOut"), _fieldNameCardinality,
+                _stringLength, _lengthDistribution, _nestingRatio, _numberRatio, _numberMix, _unicodeRatio);
+    }
+
+    /**
+     * @param cardinality Number of distinct field names used
+     */
+    public SyntheticDataGenerator withFieldNameCardinality(int cardinality) {
+        return new SyntheticDataGenerator(_seed, _depth, _fanOut, _required(cardinality, "cardinality"),
+                _stringLength, _lengthDistribution, _nestingRatio, _numberRatio, _numberMix, _unicodeRatio);
+    }
+
+    /**
+     * @param meanLength Mean length of String values, in {@code char}s (so
+     *    that non-BMP characters, like emoji, count as two)
+     */
+    public SyntheticDataGenerator withStringLength(int meanLength, LengthDistribution distribution) {
+        if (meanLength < 0) {
+            throw new IllegalArgumentException("Invalid meanLength: "+meanLength);
+        }
+        return new SyntheticDataGenerator(_seed, _depth, _fanOut, _fieldNameCardinality,
+                meanLength, distribution, _nestingRatio, _numberRatio, _numberMix, _unicodeRatio);
+    }
+
+    public SyntheticDataGenerator withNestingRatio(double ratio) {
+        return new SyntheticDataGenerator(_seed, _depth, _fanOut, _fieldNameCardinality,
+                _stringLength, _lengthDistribution, _ratio(ratio, "nestingRatio"), _numberRatio, _numberMix, _unicodeRatio);
+    }
+
+    public SyntheticDataGenerator withNumberRatio(double ratio) {
+        return new SyntheticDataGenerator(_seed, _depth, _fanOut, _fieldNameCardinality,
+                _stringLength, _lengthDistribution, _nestingRatio, _ratio(ratio, "numberRatio"), _numberMix, _unicodeRatio);
+    }
+
+    /**
+     * Method for specifying relative weights of different numeric types;
+     * for example {@code (2, 0, 1, 0)} would produce 2/3 {@code int}s and 1/3
+     * {@code double}s.
+     */
+    public SyntheticDataGenerator withNumberMix(int intWeight, int longWeight,
+            int doubleWeight, int bigDecimalWeight)
+    {
+        int[] mix = new int[] { intWeight, longWeight, doubleWeight, bigDecimalWeight };
+        int total = 0;
+        for (int w : mix) {
+            if (w < 0) {
+                throw new IllegalArgumentException("Negative weight: "+w);
+            }
+            total += w;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+        return new SyntheticDataGenerator(_seed, _depth, _fanOut, _fieldNameCardinality,
+                _stringLength, _lengthDistribution, _nestingRatio, _numberRatio, mix, _unicodeRatio);
+    }
+
+    /**
+     * Alternative to {@link #withNumberMix(int, int, int, int)} that takes weights
+     * as String like {@code "1:1:2:0"} (int:long:double:BigDecimal), to allow use
+     * as JMH {@code @Param}.
+     */
+    public SyntheticDataGenerator withNumberMix(String weights) {
+        String[] parts = weights.split(":");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid number mix '"+weights
+                    +"': should be 4 colon-separated weights (int:long:double:BigDecimal)");
+        }
+        return withNumberMix(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()),
+                Integer.parseInt(parts[2].trim()), Integer.parseInt(parts[3].trim()));
+    }
+
+    public SyntheticDataGenerator withUnicodeRatio(double ratio) {
+        return new SyntheticDataGenerator(_seed, _depth, _fanOut, _fieldNameCardinality,
+                _stringLength, _lengthDistribution, _nestingRatio, _numberRatio, _numberMix, _ratio(ratio, "unicodeRatio"));
+    }
+
+    /*
+    /**********************************************************************
+    /* Generation
+    /**********************************************************************
+     */
+
+    public byte[] generateJson()
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1000);
+        try (JsonGenerator g = new JsonFactory().createGenerator(bytes)) {
+            generate(g);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Method for writing given number of generated documents as NDJSON
+     * (one document per line); each document generated with a different seed
+     * (starting with configured one), other settings being the same.
+     */
+    public void generateNdjson(OutputStream out, int docCount) throws IOException
+    {
+        try (JsonGenerator g = new JsonFactory().createGenerator(out)) {
+            g.setRootValueSeparator(new SerializedString("\n"));
+            for (int i = 0; i < docCount; ++i) {
+                withSeed(_seed + i).generate(g);
+            }
+            g.writeRaw('\n');
+        }
+    }
+
+    /**
+     * Method for writing generated document using given generator (which
+     * may be for any format that can write JSON-like content).
+     */
+    public void generate(JsonGenerator g) throws IOException
+    {
+        // Separate random sequence for names, so that changing other settings
+        // does not change names
+        final String[] names = _fieldNames(new Random(_seed ^ 0x5DEECE66DL));
+        _writeObject(g, new Random(_seed), names, 1);
+    }
+
+    protected void _writeObject(JsonGenerator g, Random r, String[] names, int level)
+        throws IOException
+    {
+        g.writeStartObject();
+        // Names must be unique within an Object so need to pick without replacement,
+        // by partially shuffling the names (which remain a permutation)
+        final int count = Math.min(_fanOut, names.length);
+        for (int i = 0; i < count; ++i) {
+            int ix = i + r.nextInt(names.length - i);
+            String name = names[ix];
+            names[ix] = names[i];
+            names[i] = name;
+        }
+        // but then need a copy since nested Objects will shuffle further
+        for (String name : Arrays.copyOf(names, count)) {
+            g.writeFieldName(name);
+            _writeValue(g, r, names, level);
+        }
+        g.writeEndObject();
+    }
+
+    protected void _writeArray(JsonGenerator g, Random r, String[] names, int level)
+        throws IOException
+    {
+        g.writeStartArray();
+        for (int i = 0; i < _fanOut; ++i) {
+            _writeValue(g, r, names, level);
+        }
+        g.writeEndArray();
+    }
+
+    protected void _writeValue(JsonGenerator g, Random r, String[] names, int level)
+        throws IOException
+    {
+        if (level < _depth && r.nextDouble() < _nestingRatio) {
+            if (r.nextBoolean()) {
+                _writeObject(g, r, names, level+1);
+            } else {
+                _writeArray(g, r, names, level+1);
+            }
+        } else if (r.nextDouble() < _numberRatio) {
+            _writeNumber(g, r);
+        } else {
+            g.writeString(_string(r));
+        }
+    }
+
+    protected void _writeNumber(JsonGenerator g, Random r) throws IOException
+    {
+        int total = 0;
+        for (int w : _numberMix) {
+            total += w;
+        }
+        int choice = r.nextInt(total);
+        if ((choice -= _numberMix[0]) < 0) {
+            g.writeNumber(r.nextInt());
+        } else if ((choice -= _numberMix[1]) < 0) {
+            g.writeNumber(r.nextLong());
+        } else if ((choice -= _numberMix[2]) < 0) {
+            g.writeNumber(r.nextDouble() * Math.pow(10.0, r.nextInt(20) - 10));
+        } else {
+            // up to 30 significant digits, 1 to 10 of which are fractional
+            g.writeNumber(new BigDecimal(new BigInteger(100, r), 1 + r.nextInt(10)));
+        }
+    }
+
+    protected String _string(Random r)
+    {
+        final int len = _lengthDistribution.nextLength(r, _stringLength);
+        StringBuilder sb = new StringBuilder(len);
+        // length is in chars, so emoji (surrogate pair) count as two
+        for (int i = 0; i < len; ++i) {
+            if (r.nextDouble() < _unicodeRatio) {
+                int type = r.nextInt(10);
+                if (type < 5) { // 2-byte UTF-8: Latin-1 supplement, Greek, Cyrillic
+                    sb.append((char) (0xC0 + r.nextInt(0x480 - 0xC0)));
+                } else if (type < 9 || (i + 1) == len) { // 3-byte UTF-8: CJK
+                    sb.append((char) (0x4E00 + r.nextInt(0x5000)));
+                } else { // 4-byte UTF-8: emoji (surrogate pair)
+                    int cp = 0x1F600 + r.nextInt(0x50);
+                    sb.appendCodePoint(cp);
+                    i += Character.charCount(cp) - 1;
+                }
+            } else {
+                sb.append((char) (' ' + r.nextInt(95)));
+            }
+        }
+        return sb.toString();
+    }
+
+    protected String[] _fieldNames(Random r)
+    {
+        String[] names = new String[_fieldNameCardinality];
+        for (int i = 0; i < names.length; ++i) {
+            // Random prefix of 3 to 12 lower-case letters; suffix to ensure uniqueness
+            StringBuilder sb = new StringBuilder();
+            for (int j = 0, len = 3 + r.nextInt(10); j < len; ++j) {
+                sb.append((char) ('a' + r.nextInt(26)));
+            }
+            names[i] = sb.append(i).toString();
+        }
+        return names;
+    }
+
+    private static int _required(int value, String desc) {
+        if (value < 1) {
+            throw new IllegalArgumentException("Invalid "+desc+": "+value+" (must be at least 1)");
+        }
+        return value;
+    }
+
+    private static double _ratio(double value, String desc) {
+        if (value < 0.0 || value > 1.0) {
+            throw new IllegalArgumentException("Invalid "+desc+": "+value+" (must be between 0.0 and 1.0)");
+        }
+        return value;
+    }
+}
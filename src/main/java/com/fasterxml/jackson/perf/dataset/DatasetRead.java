@@ -0,0 +1,134 @@
+package com.fasterxml.jackson.perf.dataset;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.perf.AuxStateThroughput;
+import com.fasterxml.jackson.perf.data.DataFormat;
+import com.fasterxml.jackson.perf.data.Dataset;
+import com.fasterxml.jackson.perf.data.Datasets;
+
+/**
+ * Tests for reading datasets served by {@link Datasets}: most importantly
+ * memory-mapped files, which allows reading documents (or NDJSON streams)
+ * larger than heap. Each operation reads the whole dataset; all root-level
+ * values are read so that NDJSON (and similar, for other formats) content
+ * is fully read.
+ *<pre>
+ *  java -jar target/perf.jar DatasetRead -p dataset=mmap:/data/logs.ndjson,heap:/data/logs.ndjson -p mode=TOKENS,NODE
+ *</pre>
+ * Content must be in the format given as {@code format} parameter (no conversion
+ * is done, to avoid having to hold converted content on heap).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DatasetRead
+{
+    public enum ReadMode {
+        /**
+         * Streaming read: just iterate over tokens (reading all values)
+         */
+        TOKENS {
+            @Override
+            public long read(ObjectMapper mapper, InputStream in, Blackhole bh) throws IOException {
+                long count = 0L;
+                try (JsonParser p = mapper.createParser(in)) {
+                    while (p.nextToken() != null) {
+                        ++count;
+                    }
+                }
+                return count;
+            }
+        },
+        UNTYPED {
+            @Override
+            public long read(ObjectMapper mapper, InputStream in, Blackhole bh) throws IOException {
+                return _readAll(mapper.readerFor(Object.class).readValues(in), bh);
+            }
+        },
+        NODE {
+            @Override
+            public long read(ObjectMapper mapper, InputStream in, Blackhole bh) throws IOException {
+                return _readAll(mapper.readerFor(JsonNode.class).readValues(in), bh);
+            }
+        },
+        ;
+
+        public abstract long read(ObjectMapper mapper, InputStream in, Blackhole bh) throws IOException;
+
+        protected static long _readAll(MappingIterator<?> it, Blackhole bh) throws IOException {
+            long count = 0L;
+            try {
+                while (it.hasNextValue()) {
+                    bh.consume(it.nextValue());
+                    ++count;
+                }
+            } finally {
+                it.close();
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Dataset name as accepted by {@link Datasets#get}
+     */
+    @Param({"mmap:json/citm_catalog_ws.json", "classpath:json/citm_catalog_ws.json",
+        "heap:json/citm_catalog_ws.json"})
+    public String dataset;
+
+    @Param("JSON")
+    public DataFormat format;
+
+    @Param({"TOKENS", "NODE"})
+    public ReadMode mode;
+
+    protected ObjectMapper mapper;
+
+    protected Dataset data;
+
+    protected long length;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        mapper = format.newMapper();
+        data = Datasets.get(dataset);
+        length = data.length();
+        // Classpath resources have no known length so need to calculate
+        if (length < 0L) {
+            length = 0L;
+            try (InputStream in = data.open()) {
+                byte[] buf = new byte[8000];
+                int count;
+                while ((count = in.read(buf)) > 0) {
+                    length += count;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void read(Blackhole bh, AuxStateThroughput rate) throws Exception {
+        rate.add(length);
+        try (InputStream in = data.open()) {
+            bh.consume(mode.read(mapper, in, bh));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.fasterxml.jackson.perf.ion;
+
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.dataformat.ion.IonFactory;
+import com.fasterxml.jackson.perf.WritePerfSinksJackson;
+import com.fasterxml.jackson.perf.model.MediaItem;
+
+@State(Scope.Thread)
+public class IonStdWriteSinks
+    extends WritePerfSinksJackson<MediaItem>
+{
+    private static final ObjectMapper FORMAT_MAPPER = new ObjectMapper(new IonFactory());
+
+    public IonStdWriteSinks() {
+        super(FORMAT_MAPPER);
+    }
+}
@@ -8,6 +8,7 @@ import org.openjdk.jmh.infra.Blackhole;
 
 import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.perf.AuxStateSize;
+import com.fasterxml.jackson.perf.AuxStateThroughput;
 import com.fasterxml.jackson.perf.ReadPerfTestBasic;
 import com.fasterxml.jackson.perf.model.MediaItem;
 import com.fasterxml.jackson.perf.model.MediaItems;
@@ -35,8 +36,11 @@ public class JacksonJrStdReadVanilla
 
     @Benchmark
     @Override
-    public void readPojoMediaItem(Blackhole bh/*, AuxStateSize size*/) throws Exception {
-        //size.set(_mediaItemBytes.length);
+    public void readPojoMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        size.set(_mediaItemBytes.length);
+        rate.add(_mediaItemBytes.length);
         bh.consume(read(_mediaItemBytes));
     }
 
@@ -29,9 +29,13 @@ public class JacksonJrStdWriteVanilla implements WritePerfTestBasic
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void writePojoMediaItem(Blackhole bh) throws Exception
+    public void writePojoMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
     {
-        bh.consume(write(item, json));
+        final int len = write(item, json);
+        size.set(len);
+        rate.add(len);
+        bh.consume(len);
     }
 
     @Benchmark
@@ -135,8 +135,8 @@ public class JsonArbitraryFieldNameBenchmark {
             return builder.toString();
         }
 
-        private final TypeReference<?> typereference;
-        private final Supplier<byte[]> bytesSupplier;
+        final TypeReference<?> typereference;
+        final Supplier<byte[]> bytesSupplier;
 
         InputShape(TypeReference<?> typereference, Supplier<String> jsonSupplier) {
             this.typereference = typereference;
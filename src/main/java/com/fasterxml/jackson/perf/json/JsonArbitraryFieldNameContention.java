@@ -0,0 +1,151 @@
+package com.fasterxml.jackson.perf.json;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.perf.json.JsonArbitraryFieldNameBenchmark.FactoryMode;
+import com.fasterxml.jackson.perf.json.JsonArbitraryFieldNameBenchmark.InputShape;
+import com.fasterxml.jackson.perf.json.JsonArbitraryFieldNameBenchmark.InputType;
+
+/**
+ * Variant of {@link JsonArbitraryFieldNameBenchmark} for measuring contention
+ * on root symbol tables of a single {@code JsonFactory} shared by all threads
+ * (root table is updated whenever a closed parser has added new names), to be
+ * run with multiple threads, for example:
+ *<pre>
+ *  java -cp target/perf.jar com.fasterxml.jackson.perf.concurrent.ThreadScalingRunner 16 JsonArbitraryFieldNameContention
+ *</pre>
+ * In addition to throughput, reports:
+ *<ul>
+ * <li>{@code mergeMs}: milliseconds spent in closing parsers (which is where child
+ *   symbol table is merged into the root table) per second, summed over all threads
+ *  </li>
+ * <li>{@code symbols}: size of the root symbol table at end of the first measurement iteration
+ *  </li>
+ * <li>{@code flushes}: number of times root table was seen shrinking during measurement
+ *   (table gets flushed when merging a child table that has grown too big)
+ *  </li>
+ *</ul>
+ * Time spent in rehashing child tables (when new names are added during parsing)
+ * is not reported separately, but is included in the primary score.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonArbitraryFieldNameContention
+{
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class MergeTime
+    {
+        public double mergeMs;
+
+        public void add(long nanos) {
+            mergeMs += nanos * 1e-6;
+        }
+    }
+
+    /**
+     * Root symbol table state; only updated by one of the threads, since
+     * {@code EVENTS} counters are summed over all threads (and iterations,
+     * so size is only reported once, same as with {@link com.fasterxml.jackson.perf.AuxStateSize}).
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class SymbolTable
+    {
+        public long symbols;
+
+        public long flushes;
+
+        private boolean _reporter, _reportSize;
+
+        private int _lastSize;
+
+        @Setup(Level.Iteration)
+        public void setup(JsonArbitraryFieldNameContention bench, IterationParams iterParams) {
+            _reporter = bench._reporterClaimed.compareAndSet(false, true);
+            _reportSize = _reporter && (iterParams.getType() == IterationType.MEASUREMENT)
+                    && bench._sizeReported.compareAndSet(false, true);
+            _lastSize = bench.factory.rootSymbolCount();
+        }
+
+        public void update(int size) {
+            if (_reporter) {
+                if (size < _lastSize) {
+                    ++flushes;
+                }
+                _lastSize = size;
+                if (_reportSize) {
+                    symbols = size;
+                }
+            }
+        }
+    }
+
+    @Param({"RANDOM_KEY_MAP", "BEAN_WITH_RANDOM_KEY_MAP", "BEAN_WITH_LARGE_KEY_MAP"})
+    public InputShape shape;
+
+    @Param({"INPUT_STREAM", "READER"})
+    public InputType type;
+
+    @Param
+    public FactoryMode mode;
+
+    protected SymbolTableJsonFactory factory;
+
+    protected ObjectReader reader;
+
+    protected final AtomicBoolean _reporterClaimed = new AtomicBoolean();
+
+    protected final AtomicBoolean _sizeReported = new AtomicBoolean();
+
+    @Setup
+    public void setup() {
+        factory = new SymbolTableJsonFactory(mode.apply(new JsonFactoryBuilder()));
+        reader = JsonMapper.builder(factory)
+                .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build()
+                .readerFor(shape.typereference);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        _reporterClaimed.set(false);
+    }
+
+    @Benchmark
+    public Object parse(MergeTime mergeTime, SymbolTable symbolTable) throws IOException
+    {
+        JsonParser parser = type.create(factory, shape.bytesSupplier);
+        Object value;
+        try {
+            value = reader.readValue(parser);
+        } finally {
+            final long start = System.nanoTime();
+            parser.close();
+            mergeTime.add(System.nanoTime() - start);
+        }
+        symbolTable.update(factory.rootSymbolCount());
+        return value;
+    }
+}
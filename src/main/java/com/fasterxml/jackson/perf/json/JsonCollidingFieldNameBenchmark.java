@@ -0,0 +1,308 @@
+package com.fasterxml.jackson.perf.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.IterationParams;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import com.fasterxml.jackson.core.sym.CharsToNameCanonicalizer;
+import com.fasterxml.jackson.perf.ReportOnce;
+import com.fasterxml.jackson.perf.json.JsonArbitraryFieldNameBenchmark.InputType;
+
+/**
+ * Tests for parsing documents with adversarial field names, crafted to
+ * degrade performance of field name canonicalization (symbol tables):
+ * names that collide in symbol table hash areas, names with long shared
+ * prefixes, and very long names.
+ *<p>
+ * Parsing cycles through {@link #DOCS} documents with {@code names} distinct
+ * names each (none shared between documents), as an attacker would send
+ * new names. Symbol table state after parsing the first document is reported
+ * as {@code symbols} (names in table), {@code spilled} (for byte-based input,
+ * names in spill-over area; for char-based, names not in primary slots) and
+ * {@code rejected} (1 if parsing failed due to collision checks).
+ *<pre>
+ *  java -jar target/perf.jar JsonCollidingFieldNameBenchmark -p shape=SEQUENTIAL,COLLIDING_QUADS -p type=INPUT_STREAM
+ *</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonCollidingFieldNameBenchmark
+{
+    protected final static int DOCS = 8;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class SymbolTableStats
+    {
+        public int symbols;
+
+        public int spilled;
+
+        public int rejected;
+
+        private final ReportOnce _once = new ReportOnce();
+
+        @Setup(Level.Iteration)
+        public void setup(IterationParams iterParams) {
+            _once.nextIteration(iterParams);
+        }
+
+        public void set(int[] stats) {
+            if (_once.shouldReport()) {
+                symbols = stats[0];
+                spilled = stats[1];
+                rejected = stats[2];
+            }
+        }
+    }
+
+    public enum SymbolMode {
+        /**
+         * Canonicalize names but do not fail on too many collisions: symbol
+         * tables stop canonicalizing (or grow) instead
+         */
+        CANONICALIZE() {
+            @Override
+            JsonFactoryBuilder apply(JsonFactoryBuilder b) {
+                return b.disable(JsonFactory.Feature.FAIL_ON_SYMBOL_HASH_OVERFLOW);
+            }
+        },
+        /**
+         * Default settings: canonicalize names, fail if collisions suggest an attack
+         */
+        CANONICALIZE_FAIL_ON_OVERFLOW() {
+            @Override
+            JsonFactoryBuilder apply(JsonFactoryBuilder b) {
+                return b;
+            }
+        },
+        NO_CANONICALIZE() {
+            @Override
+            JsonFactoryBuilder apply(JsonFactoryBuilder b) {
+                return b.disable(JsonFactory.Feature.CANONICALIZE_FIELD_NAMES);
+            }
+        },
+        ;
+
+        abstract JsonFactoryBuilder apply(JsonFactoryBuilder b);
+    }
+
+    public enum NameShape {
+        /**
+         * Baseline: sequential integer keys, as with {@code JsonArbitraryFieldNameBenchmark}
+         */
+        SEQUENTIAL() {
+            @Override
+            List<String> names(SymbolTableJsonFactory f, int count) {
+                List<String> names = new ArrayList<>(count);
+                for (int i = 0; i < count; ++i) {
+                    names.add(String.valueOf(i));
+                }
+                return names;
+            }
+        },
+        /**
+         * 8-byte names (2 quads) that all map to the same slot in byte-based
+         * symbol table (of any size), given hash seed of the factory
+         */
+        COLLIDING_QUADS() {
+            @Override
+            List<String> names(SymbolTableJsonFactory f, int count) {
+                final ByteQuadsCanonicalizer symbols = f.byteSymbolTable();
+                final byte[] name = new byte[8];
+                List<String> names = new ArrayList<>(count);
+                int slot = -1;
+                for (long c = 0L; names.size() < count; ++c) {
+                    for (int i = 0; i < 8; ++i) {
+                        name[i] = (byte) ALPHABET.charAt((int) (c >>> (5 * i)) & 0x1F);
+                    }
+                    final int hash = symbols.calcHash(_quad(name, 0), _quad(name, 4));
+                    // table size is at most 64k quad slots, so lowest 16 bits suffice
+                    if (slot < 0) {
+                        slot = hash & 0xFFFF;
+                    }
+                    if ((hash & 0xFFFF) == slot) {
+                        names.add(new String(name, StandardCharsets.US_ASCII));
+                    }
+                }
+                return names;
+            }
+        },
+        /**
+         * Names with same hash code in char-based symbol table regardless of seed:
+         * since hash is calculated as {@code h * 33 + c}, "Ab" and "BA" collide,
+         * as do all same-length concatenations of them
+         */
+        COLLIDING_CHARS() {
+            @Override
+            List<String> names(SymbolTableJsonFactory f, int count) {
+                final int blocks = 32 - Integer.numberOfLeadingZeros(count - 1);
+                List<String> names = new ArrayList<>(count);
+                StringBuilder sb = new StringBuilder(blocks * 2);
+                for (int i = 0; i < count; ++i) {
+                    sb.setLength(0);
+                    for (int b = 0; b < blocks; ++b) {
+                        sb.append(((i >> b) & 1) == 0 ? "Ab" : "BA");
+                    }
+                    names.add(sb.toString());
+                }
+                return names;
+            }
+        },
+        /**
+         * Names that only differ by their last characters, after a long shared prefix
+         */
+        SHARED_PREFIX() {
+            @Override
+            List<String> names(SymbolTableJsonFactory f, int count) {
+                final String prefix = _random(new Random(count), 256);
+                List<String> names = new ArrayList<>(count);
+                for (int i = 0; i < count; ++i) {
+                    names.add(prefix + i);
+                }
+                return names;
+            }
+        },
+        /**
+         * Random names, 1k characters each
+         */
+        LONG_NAMES() {
+            @Override
+            List<String> names(SymbolTableJsonFactory f, int count) {
+                Random rnd = new Random(count);
+                List<String> names = new ArrayList<>(count);
+                for (int i = 0; i < count; ++i) {
+                    names.add(_random(rnd, 1024));
+                }
+                return names;
+            }
+        },
+        ;
+
+        protected final static String ALPHABET = "abcdefghijklmnopqrstuvwxyz012345";
+
+        /**
+         * @return Given number of distinct names
+         */
+        abstract List<String> names(SymbolTableJsonFactory f, int count);
+
+        protected static int _quad(byte[] b, int offset) {
+            return (b[offset] << 24) | (b[offset+1] << 16) | (b[offset+2] << 8) | b[offset+3];
+        }
+
+        protected static String _random(Random rnd, int length) {
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < length; ++i) {
+                sb.append(ALPHABET.charAt(rnd.nextInt(ALPHABET.length())));
+            }
+            return sb.toString();
+        }
+    }
+
+    @Param
+    public NameShape shape;
+
+    @Param({"1000"})
+    public int names;
+
+    @Param({"INPUT_STREAM", "READER"})
+    public InputType type;
+
+    @Param
+    public SymbolMode mode;
+
+    protected SymbolTableJsonFactory factory;
+
+    protected byte[][] docs;
+
+    protected int index;
+
+    /**
+     * Symbol table statistics after parsing the first document: size, spilled, rejected
+     */
+    protected int[] stats;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        factory = new SymbolTableJsonFactory(mode.apply(new JsonFactoryBuilder()));
+        List<String> allNames = shape.names(factory, DOCS * names);
+        docs = new byte[DOCS][];
+        for (int i = 0; i < DOCS; ++i) {
+            StringBuilder sb = new StringBuilder("{");
+            for (String name : allNames.subList(i * names, (i+1) * names)) {
+                if (sb.length() > 1) {
+                    sb.append(',');
+                }
+                sb.append('"').append(name).append("\":1");
+            }
+            docs[i] = sb.append('}').toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        int rejected = 0;
+        if (parse(docs[0]) < 0) {
+            rejected = 1;
+        }
+        if (type == InputType.INPUT_STREAM) {
+            ByteQuadsCanonicalizer symbols = factory.byteSymbolTable();
+            stats = new int[] { symbols.size(), symbols.spilloverCount(), rejected };
+        } else {
+            CharsToNameCanonicalizer symbols = factory.charSymbolTable();
+            stats = new int[] { symbols.size(), symbols.collisionCount(), rejected };
+        }
+    }
+
+    @Benchmark
+    public int parseNames(SymbolTableStats symbolStats) throws IOException
+    {
+        symbolStats.set(stats);
+        final byte[] doc = docs[index];
+        index = (index + 1) % DOCS;
+        return parse(doc);
+    }
+
+    /**
+     * @return Total length of names parsed, or -1 if parser rejected content
+     */
+    protected int parse(byte[] doc) throws IOException
+    {
+        int length = 0;
+        try (JsonParser p = type.create(factory, () -> doc)) {
+            JsonToken t;
+            while ((t = p.nextToken()) != null) {
+                if (t == JsonToken.FIELD_NAME) {
+                    length += p.currentName().length();
+                }
+            }
+        } catch (StreamConstraintsException e) {
+            return -1;
+        } catch (IllegalStateException e) {
+            // as of 2.15, char-based symbol table may fail with "Internal error on
+            // SymbolTable.rehash()" instead, when collision chains overflow
+            return -1;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,31 @@
+package com.fasterxml.jackson.perf.json;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.perf.ReadPerfBaseAsyncJackson;
+
+/**
+ * Variant of {@link JsonStdReadAsync} that feeds content in chunks,
+ * using either {@code ByteArrayFeeder} or {@code ByteBufferFeeder}.
+ */
+@State(Scope.Thread)
+public class JsonStdReadAsyncChunked
+    extends ReadPerfBaseAsyncJackson
+{
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Param({"BYTE_ARRAY", "BYTE_BUFFER"})
+    public FeederType feeder;
+
+    public JsonStdReadAsyncChunked() {
+        super(MAPPER);
+    }
+
+    @Override
+    protected FeederType feeder() {
+        return feeder;
+    }
+}
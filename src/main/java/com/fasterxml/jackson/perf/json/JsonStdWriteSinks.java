@@ -0,0 +1,18 @@
+package com.fasterxml.jackson.perf.json;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.perf.WritePerfSinksJackson;
+import com.fasterxml.jackson.perf.model.MediaItem;
+
+@State(Scope.Thread)
+public class JsonStdWriteSinks extends WritePerfSinksJackson<MediaItem>
+{
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    public JsonStdWriteSinks() {
+        super(JSON_MAPPER);
+    }
+}
@@ -16,6 +16,7 @@ import com.fasterxml.jackson.perf.data.InputData;
 import com.fasterxml.jackson.perf.data.StringInputConverter;
 import com.fasterxml.jackson.perf.model.Currency;
 import com.fasterxml.jackson.perf.model.MediaItem;
+import com.fasterxml.jackson.perf.model.PrimitiveCurrency;
 
 /**
  * Alternative version that reads input using {@link java.io.Reader} instead of
@@ -40,6 +41,9 @@ public class JsonStringReadVanilla
     protected final ObjectReader CURRENCY_READER_DEFAULT;
     protected final ObjectReader CURRENCY_READER_FAST;
 
+    protected final ObjectReader PRIMITIVE_CURRENCY_READER_DEFAULT;
+    protected final ObjectReader PRIMITIVE_CURRENCY_READER_FAST;
+
     protected final StringInputConverter _converter;
 
     public JsonStringReadVanilla() {
@@ -51,13 +55,24 @@ public class JsonStringReadVanilla
         CURRENCY_READER_DEFAULT = MAPPER.readerFor(Currency.class);
         CURRENCY_READER_FAST = CURRENCY_READER_DEFAULT
                 .with(StreamReadFeature.USE_FAST_DOUBLE_PARSER);
-
+        PRIMITIVE_CURRENCY_READER_DEFAULT = MAPPER.readerFor(PrimitiveCurrency.class);
+        PRIMITIVE_CURRENCY_READER_FAST = PRIMITIVE_CURRENCY_READER_DEFAULT
+                .with(StreamReadFeature.USE_FAST_DOUBLE_PARSER);
     }
 
     protected Object read(String input, ObjectReader reader) throws IOException {
         return reader.readValue(input);
     }
 
+    // NOTE: size reported in chars, not bytes (same for ASCII content)
+    protected void readAndCount(Blackhole bh, String input, ObjectReader reader,
+            AuxStateSize size, AuxStateThroughput rate) throws IOException
+    {
+        size.set(input.length());
+        rate.add(input.length());
+        bh.consume(read(input, reader));
+    }
+
     /*
     /**********************************************************************
     /* Typed reading tests
@@ -67,28 +82,46 @@ public class JsonStringReadVanilla
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readPojoMediaItem(Blackhole bh/*, AuxStateSize size*/) throws Exception {
-        final String input = _converter.mediaItemAsString();
-//        size.set(input.length());
-        bh.consume(read(input, MEDIA_ITEM_READER));
+    public void readPojoMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, _converter.mediaItemAsString(), MEDIA_ITEM_READER, size, rate);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Override
+    public void readCurrencyPojoDefault(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, _converter.asString(InputData.CURRENCY_WS), CURRENCY_READER_DEFAULT, size, rate);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Override
+    public void readCurrencyPojoFast(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, _converter.asString(InputData.CURRENCY_WS), CURRENCY_READER_FAST, size, rate);
     }
 
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readCurrencyPojoDefault(Blackhole bh/*, AuxStateSize size*/) throws Exception {
-        final String input = _converter.asString(InputData.CURRENCY_WS);
-//        size.set(input.length());
-        bh.consume(read(input, CURRENCY_READER_DEFAULT));
+    public void readCurrencyPrimitiveDefault(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, _converter.asString(InputData.CURRENCY_WS), PRIMITIVE_CURRENCY_READER_DEFAULT, size, rate);
     }
 
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readCurrencyPojoFast(Blackhole bh/*, AuxStateSize size*/) throws Exception {
-        final String input = _converter.asString(InputData.CURRENCY_WS);
-//        size.set(input.length());
-        bh.consume(read(input, CURRENCY_READER_FAST));
+    public void readCurrencyPrimitiveFast(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, _converter.asString(InputData.CURRENCY_WS), PRIMITIVE_CURRENCY_READER_FAST, size, rate);
     }
 
     /*
@@ -100,29 +133,37 @@ public class JsonStringReadVanilla
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readUntypedCitmCatalog(Blackhole bh) throws Exception {
-        bh.consume(read(_converter.asString(InputData.CITM_CATALOG_WS), UNTYPED_READER));
+    public void readUntypedCitmCatalog(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, _converter.asString(InputData.CITM_CATALOG_WS), UNTYPED_READER, size, rate);
     }
 
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readUntypedWebxml(Blackhole bh) throws Exception {
-        bh.consume(read(_converter.asString(InputData.WEBXML_WS), UNTYPED_READER));
+    public void readUntypedWebxml(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, _converter.asString(InputData.WEBXML_WS), UNTYPED_READER, size, rate);
     }
 
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readUntypedMenu(Blackhole bh) throws Exception {
-        bh.consume(read(_converter.asString(InputData.MENU_WS), UNTYPED_READER));
+    public void readUntypedMenu(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, _converter.asString(InputData.MENU_WS), UNTYPED_READER, size, rate);
     }
 
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readUntypedMediaItem(Blackhole bh) throws Exception {
-        bh.consume(read(_converter.mediaItemAsString(), UNTYPED_READER));
+    public void readUntypedMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, _converter.mediaItemAsString(), UNTYPED_READER, size, rate);
     }
 
     /*
@@ -134,28 +175,36 @@ public class JsonStringReadVanilla
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readNodeCitmCatalog(Blackhole bh) throws Exception {
-        bh.consume(read(_converter.asString(InputData.CITM_CATALOG_WS), NODE_READER));
+    public void readNodeCitmCatalog(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, _converter.asString(InputData.CITM_CATALOG_WS), NODE_READER, size, rate);
     }
 
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readNodeWebxml(Blackhole bh) throws Exception {
-        bh.consume(read(_converter.asString(InputData.WEBXML_WS), NODE_READER));
+    public void readNodeWebxml(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, _converter.asString(InputData.WEBXML_WS), NODE_READER, size, rate);
     }
 
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readNodeMenu(Blackhole bh) throws Exception {
-        bh.consume(read(_converter.asString(InputData.MENU_WS), NODE_READER));
+    public void readNodeMenu(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, _converter.asString(InputData.MENU_WS), NODE_READER, size, rate);
     }
 
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void readNodeMediaItem(Blackhole bh) throws Exception {
-        bh.consume(read(_converter.mediaItemAsString(), NODE_READER));
+    public void readNodeMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        readAndCount(bh, _converter.mediaItemAsString(), NODE_READER, size, rate);
     }
 }
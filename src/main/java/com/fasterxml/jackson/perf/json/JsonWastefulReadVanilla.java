@@ -11,6 +11,7 @@ import org.openjdk.jmh.infra.Blackhole;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.perf.AuxStateSize;
+import com.fasterxml.jackson.perf.AuxStateThroughput;
 import com.fasterxml.jackson.perf.ReadPerfBaseBasicJackson;
 import com.fasterxml.jackson.perf.data.InputConverter;
 import com.fasterxml.jackson.perf.model.MediaItem;
@@ -37,9 +38,12 @@ public class JsonWastefulReadVanilla
     }
 
     @Override
-    public void readPojoMediaItem(Blackhole bh/*, AuxStateSize size*/) throws Exception {
+    public void readPojoMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
         final String input = MINIMAL_CONV.mediaItemAsString();
-//        size.set(input.length());
+        size.set(input.length());
+        rate.add(input.length());
         bh.consume(read(input));
     }
 
@@ -11,6 +11,8 @@ import org.openjdk.jmh.infra.Blackhole;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.perf.AuxStateSize;
+import com.fasterxml.jackson.perf.AuxStateThroughput;
 import com.fasterxml.jackson.perf.WritePerfTestFull;
 import com.fasterxml.jackson.perf.model.CurrencySampleProvider;
 import com.fasterxml.jackson.perf.model.MediaItem;
@@ -52,37 +54,66 @@ public class JsonWastefulWriteVanilla
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void writeCurrencyPojoDefault(Blackhole bh) throws Exception {
-        bh.consume(write(CurrencySampleProvider.getSample()));
+    public void writeCurrencyPojoDefault(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        writeAndCount(bh, CurrencySampleProvider.getSample(), size, rate);
     }
 
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void writeCurrencyPojoFast(Blackhole bh) throws Exception {
+    public void writeCurrencyPojoFast(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
         // NOTE! Does not use Fast writes...
-        bh.consume(write(CurrencySampleProvider.getSample()));
+        writeAndCount(bh, CurrencySampleProvider.getSample(), size, rate);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Override
+    public void writeCurrencyPrimitiveDefault(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        writeAndCount(bh, CurrencySampleProvider.getPrimitiveSample(), size, rate);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Override
+    public void writeCurrencyPrimitiveFast(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        // NOTE! Does not use Fast writes...
+        writeAndCount(bh, CurrencySampleProvider.getPrimitiveSample(), size, rate);
     }
     
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void writeUntypedMediaItem(Blackhole bh) throws Exception {
-        bh.consume(write(_untyped));
+    public void writeUntypedMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        writeAndCount(bh, _untyped, size, rate);
     }
 
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void writeNodeMediaItem(Blackhole bh) throws Exception {
-        bh.consume(write(_node));
+    public void writeNodeMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        writeAndCount(bh, _node, size, rate);
     }
 
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Override
-    public void writePojoMediaItem(Blackhole bh) throws Exception {
-        bh.consume(write(_value));
+    public void writePojoMediaItem(Blackhole bh, AuxStateSize size, AuxStateThroughput rate)
+        throws Exception
+    {
+        writeAndCount(bh, _value, size, rate);
     }
 
     private int write(Object value) throws Exception {
@@ -90,4 +121,13 @@ public class JsonWastefulWriteVanilla
         new ObjectMapper().writeValue(out, value);
         return out.size();
     }
+
+    private void writeAndCount(Blackhole bh, Object value,
+            AuxStateSize size, AuxStateThroughput rate) throws Exception
+    {
+        final int len = write(value);
+        size.set(len);
+        rate.add(len);
+        bh.consume(len);
+    }
 }
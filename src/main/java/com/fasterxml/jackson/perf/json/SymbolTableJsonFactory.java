@@ -0,0 +1,60 @@
+package com.fasterxml.jackson.perf.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import com.fasterxml.jackson.core.sym.CharsToNameCanonicalizer;
+
+/**
+ * {@link JsonFactory} that exposes state of its root symbol tables (field name
+ * canonicalizers), which all parsers created by the factory share: child tables
+ * of parsers are merged back into the root table when parsers are closed.
+ */
+public class SymbolTableJsonFactory extends JsonFactory
+{
+    private static final long serialVersionUID = 1L;
+
+    public SymbolTableJsonFactory(JsonFactoryBuilder b) {
+        super(b);
+    }
+
+    /**
+     * @return Number of names in the root symbol table used for byte-based
+     *   input ({@code InputStream}, {@code byte[]})
+     */
+    public int rootByteSymbolCount() {
+        return _byteSymbolCanonicalizer.size();
+    }
+
+    /**
+     * @return Number of names in the root symbol table used for char-based
+     *   input ({@code Reader}, {@code String})
+     */
+    public int rootCharSymbolCount() {
+        return _rootCharSymbols.size();
+    }
+
+    /**
+     * @return Total number of names in both root symbol tables
+     */
+    public int rootSymbolCount() {
+        return rootByteSymbolCount() + rootCharSymbolCount();
+    }
+
+    /**
+     * @return Child of the root symbol table for byte-based input, with current
+     *   contents of the root table and same hash seed as tables parsers use;
+     *   never released (merged back)
+     */
+    public ByteQuadsCanonicalizer byteSymbolTable() {
+        return _byteSymbolCanonicalizer.makeChild(_factoryFeatures);
+    }
+
+    /**
+     * @return Child of the root symbol table for char-based input, with current
+     *   contents of the root table; never released (merged back)
+     */
+    public CharsToNameCanonicalizer charSymbolTable() {
+        return _rootCharSymbols.makeChild(_factoryFeatures);
+    }
+}
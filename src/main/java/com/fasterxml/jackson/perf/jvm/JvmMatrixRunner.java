@@ -0,0 +1,295 @@
+package com.fasterxml.jackson.perf.jvm;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.perf.runner.RunResults;
+
+/**
+ * Runner that runs selected benchmarks on each combination of JDK, garbage
+ * collector and heap size (each in forked JVMs) and reports results of all
+ * combinations in a single table, along with score relative to the first
+ * combination.
+ *<p>
+ * Usage:
+ *<pre>
+ *  java -cp target/perf.jar com.fasterxml.jackson.perf.jvm.JvmMatrixRunner [matrix options] [jmh options]
+ *</pre>
+ * where matrix options are:
+ *<ul>
+ * <li>{@code -jdks home1,home2,...}: Java home directories to use, or {@code auto} to use
+ *   all JDKs found from usual installation locations (SDKMAN, {@code /usr/lib/jvm}, macOS);
+ *   defaults to JDK running the runner
+ *  </li>
+ * <li>{@code -gcs Serial,Parallel,G1,Z,Shenandoah}: garbage collectors to use (default: all)
+ *  </li>
+ * <li>{@code -heaps 256m,1g}: maximum heap sizes (default: {@code 256m})
+ *  </li>
+ *</ul>
+ * Combinations not supported by a JDK (like ZGC on Java 8) are skipped.
+ * If no benchmarks are included, defaults to {@code JsonStdReadVanilla.readPojoMediaItem}.
+ * If GC profiler is enabled ({@code -prof gc}), normalized allocation rate
+ * (bytes per operation) is included as well.
+ *<p>
+ * Note that the jar must be built for the lowest JDK version used (Java 8 by default).
+ */
+public class JvmMatrixRunner
+{
+    protected final static String DEFAULT_INCLUDE = "JsonStdReadVanilla.readPojoMediaItem";
+
+    public enum GC {
+        Serial("-XX:+UseSerialGC"),
+        Parallel("-XX:+UseParallelGC"),
+        G1("-XX:+UseG1GC"),
+        // Experimental before JDK 15
+        Z("-XX:+UnlockExperimentalVMOptions", "-XX:+UseZGC"),
+        // Only included in some JDK builds
+        Shenandoah("-XX:+UnlockExperimentalVMOptions", "-XX:+UseShenandoahGC"),
+        ;
+
+        private final String[] _jvmArgs;
+
+        private GC(String... jvmArgs) {
+            _jvmArgs = jvmArgs;
+        }
+
+        public String[] jvmArgs() { return _jvmArgs; }
+    }
+
+    /**
+     * Single JDK installation
+     */
+    protected static class Jdk
+    {
+        public final File home;
+
+        public final String version;
+
+        public Jdk(File home) {
+            this.home = home;
+            version = _version(home);
+        }
+
+        public String java() {
+            return new File(new File(home, "bin"), "java").getPath();
+        }
+
+        /**
+         * Method for checking whether this JDK supports given JVM options,
+         * by running {@code java -version} with them.
+         */
+        public boolean supports(List<String> jvmArgs)
+        {
+            List<String> cmd = new ArrayList<>();
+            cmd.add(java());
+            cmd.addAll(jvmArgs);
+            cmd.add("-version");
+            try {
+                Process p = new ProcessBuilder(cmd)
+                        .redirectErrorStream(true)
+                        .redirectOutput(ProcessBuilder.Redirect.PIPE)
+                        .start();
+                try (InputStream in = p.getInputStream()) {
+                    while (in.read() >= 0) { }
+                }
+                return p.waitFor(30, TimeUnit.SECONDS) && (p.exitValue() == 0);
+            } catch (IOException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private static String _version(File home)
+        {
+            // JDK 9+ (and most JDK 8 builds) have "release" file with JAVA_VERSION="17.0.9"
+            File release = new File(home, "release");
+            if (release.isFile()) {
+                Properties props = new Properties();
+                try (InputStream in = new FileInputStream(release)) {
+                    props.load(in);
+                    String v = props.getProperty("JAVA_VERSION");
+                    if (v != null) {
+                        return v.replace("\"", "");
+                    }
+                } catch (IOException e) { }
+            }
+            return home.getName();
+        }
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        List<Jdk> jdks = new ArrayList<>();
+        List<GC> gcs = new ArrayList<>();
+        List<String> heaps = new ArrayList<>();
+        List<String> jmhArgs = new ArrayList<>();
+
+        for (int i = 0; i < args.length; ++i) {
+            final String arg = args[i];
+            if ((i+1) < args.length) {
+                if ("-jdks".equals(arg)) {
+                    jdks.addAll(findJdks(args[++i]));
+                    continue;
+                }
+                if ("-gcs".equals(arg)) {
+                    for (String gc : args[++i].split(",")) {
+                        gcs.add(GC.valueOf(gc.trim()));
+                    }
+                    continue;
+                }
+                if ("-heaps".equals(arg)) {
+                    heaps.addAll(Arrays.asList(args[++i].split(",")));
+                    continue;
+                }
+            }
+            jmhArgs.add(arg);
+        }
+        if (jdks.isEmpty()) {
+            jdks.add(new Jdk(new File(System.getProperty("java.home"))));
+        }
+        if (gcs.isEmpty()) {
+            gcs.addAll(Arrays.asList(GC.values()));
+        }
+        if (heaps.isEmpty()) {
+            heaps.add("256m");
+        }
+        CommandLineOptions cmdOptions = new CommandLineOptions(jmhArgs.toArray(new String[0]));
+
+        // Key is benchmark+params, value scores by configuration, in order run
+        Map<String, Map<String, Double>> scores = new TreeMap<>();
+        Map<String, Map<String, Double>> errors = new HashMap<>();
+        Map<String, Map<String, Double>> allocs = new HashMap<>();
+        List<String> configs = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+        // units may differ between benchmarks
+        Map<String, String> units = new HashMap<>();
+
+        for (Jdk jdk : jdks) {
+            for (GC gc : gcs) {
+                for (String heap : heaps) {
+                    List<String> jvmArgs = new ArrayList<>(Arrays.asList(gc.jvmArgs()));
+                    jvmArgs.add("-Xmx"+heap);
+                    final String config = jdk.version+" "+gc+" "+heap;
+                    if (!jdk.supports(jvmArgs)) {
+                        skipped.add(config);
+                        continue;
+                    }
+                    configs.add(config);
+                    ChainedOptionsBuilder opts = new OptionsBuilder()
+                            .parent(cmdOptions)
+                            .jvm(jdk.java())
+                            .jvmArgsAppend(jvmArgs.toArray(new String[0]));
+                    if (cmdOptions.getIncludes().isEmpty()) {
+                        opts = opts.include(DEFAULT_INCLUDE);
+                    }
+                    for (RunResult result : new Runner(opts.build()).run()) {
+                        final String key = RunResults.key(result.getParams());
+                        Result<?> primary = result.getPrimaryResult();
+                        scores.computeIfAbsent(key, k -> new LinkedHashMap<>())
+                            .put(config, primary.getScore());
+                        errors.computeIfAbsent(key, k -> new HashMap<>())
+                            .put(config, primary.getScoreError());
+                        units.put(key, primary.getScoreUnit());
+                        Double alloc = RunResults.allocRateNorm(result);
+                        if (alloc != null) {
+                            allocs.computeIfAbsent(key, k -> new HashMap<>())
+                                .put(config, alloc);
+                        }
+                    }
+                }
+            }
+        }
+        printTable(scores, errors, allocs, configs, units);
+        for (String config : skipped) {
+            System.out.println("(skipped unsupported: "+config+")");
+        }
+    }
+
+    /**
+     * Method for resolving JDK list given as argument: either comma-separated
+     * Java home directories, or "auto" for auto-detection.
+     */
+    protected static List<Jdk> findJdks(String spec)
+    {
+        List<Jdk> jdks = new ArrayList<>();
+        if (!"auto".equals(spec)) {
+            for (String home : spec.split(",")) {
+                jdks.add(new Jdk(new File(home.trim())));
+            }
+            return jdks;
+        }
+        final String userHome = System.getProperty("user.home");
+        for (File dir : new File[] {
+                new File(userHome, ".sdkman/candidates/java"),
+                new File("/usr/lib/jvm"),
+                new File("/Library/Java/JavaVirtualMachines"),
+        }) {
+            File[] homes = dir.listFiles();
+            if (homes == null) {
+                continue;
+            }
+            Arrays.sort(homes);
+            for (File home : homes) {
+                // macOS bundles have actual home under "Contents/Home"
+                File macHome = new File(home, "Contents/Home");
+                if (macHome.isDirectory()) {
+                    home = macHome;
+                }
+                if (!java.nio.file.Files.isSymbolicLink(home.toPath())
+                        && new File(home, "bin/java").isFile()) {
+                    jdks.add(new Jdk(home));
+                }
+            }
+        }
+        return jdks;
+    }
+
+    protected static void printTable(Map<String, Map<String, Double>> scores,
+            Map<String, Map<String, Double>> errors,
+            Map<String, Map<String, Double>> allocs,
+            List<String> configs, Map<String, String> units)
+    {
+        int width = 10;
+        for (String key : scores.keySet()) {
+            width = Math.max(width, key.length());
+        }
+        int configWidth = 6;
+        for (String config : configs) {
+            configWidth = Math.max(configWidth, config.length());
+        }
+        final String rowFormat = "%-"+width+"s  %-"+configWidth+"s  %14s  %12s  %-12s  %9s  %10s\n";
+        System.out.println();
+        System.out.printf(rowFormat, "Benchmark", "JVM", "Score", "Error", "Units", "Relative", "B/op");
+        for (Map.Entry<String, Map<String, Double>> entry : scores.entrySet()) {
+            final String key = entry.getKey();
+            Double first = null;
+            for (Map.Entry<String, Double> score : entry.getValue().entrySet()) {
+                if (first == null) {
+                    first = score.getValue();
+                }
+                Double error = errors.get(key).get(score.getKey());
+                Double alloc = allocs.getOrDefault(key, Collections.emptyMap())
+                        .get(score.getKey());
+                System.out.printf(rowFormat, key, score.getKey(),
+                        String.format("%.3f", score.getValue()),
+                        (error == null || error.isNaN()) ? "N/A" : String.format("%.3f", error),
+                        units.get(key),
+                        String.format("%.1f%%", 100.0 * score.getValue() / first),
+                        (alloc == null) ? "N/A" : String.format("%.1f", alloc));
+            }
+        }
+    }
+}
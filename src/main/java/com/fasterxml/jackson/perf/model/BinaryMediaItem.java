@@ -0,0 +1,23 @@
+package com.fasterxml.jackson.perf.model;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Variant of {@link MediaItem} with embedded binary data (like thumbnail
+ * image), for testing handling of {@code byte[]} values: native binary
+ * for formats that support it, Base64-encoded for textual formats.
+ */
+@JsonPropertyOrder({"content", "images", "thumbnail"})
+public class BinaryMediaItem extends MediaItem
+{
+    private byte[] _thumbnail;
+
+    public BinaryMediaItem() { }
+
+    public BinaryMediaItem(MediaContent c) {
+        super(c);
+    }
+
+    public byte[] getThumbnail() { return _thumbnail; }
+    public void setThumbnail(byte[] b) { _thumbnail = b; }
+}
@@ -0,0 +1,139 @@
+package com.fasterxml.jackson.perf.model;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Alternative to {@code Map<String, Double>} for {@link Currency#rates}:
+ * currency codes and rates stored in parallel arrays (sorted by code), so
+ * that no {@link Double}s or map entries are allocated. Read and written
+ * as JSON Object using custom (de)serializer.
+ */
+@JsonSerialize(using = CurrencyRates.Serializer.class)
+@JsonDeserialize(using = CurrencyRates.Deserializer.class)
+public final class CurrencyRates
+{
+    private final String[] _codes;
+
+    private final double[] _rates;
+
+    private final int _size;
+
+    /**
+     * @param codes Currency codes, sorted
+     * @param rates Rates for currencies, in the same order as codes
+     * @param size Number of entries used (arrays may be longer)
+     */
+    public CurrencyRates(String[] codes, double[] rates, int size) {
+        _codes = codes;
+        _rates = rates;
+        _size = size;
+    }
+
+    public int size() { return _size; }
+
+    public String code(int index) { return _codes[index]; }
+
+    public double rate(int index) { return _rates[index]; }
+
+    /**
+     * @return Rate for given currency code, if any; {@code Double.NaN} if none
+     */
+    public double rate(String code) {
+        int ix = Arrays.binarySearch(_codes, 0, _size, code);
+        return (ix < 0) ? Double.NaN : _rates[ix];
+    }
+
+    static class Serializer extends StdSerializer<CurrencyRates>
+    {
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(CurrencyRates.class);
+        }
+
+        @Override
+        public void serialize(CurrencyRates value, JsonGenerator g, SerializerProvider provider)
+            throws IOException
+        {
+            final int size = value._size;
+            g.writeStartObject(value, size);
+            for (int i = 0; i < size; ++i) {
+                g.writeFieldName(value._codes[i]);
+                g.writeNumber(value._rates[i]);
+            }
+            g.writeEndObject();
+        }
+    }
+
+    static class Deserializer extends StdDeserializer<CurrencyRates>
+    {
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(CurrencyRates.class);
+        }
+
+        @Override
+        public CurrencyRates deserialize(JsonParser p, DeserializationContext ctxt)
+            throws IOException
+        {
+            if (!p.isExpectedStartObjectToken()) {
+                return (CurrencyRates) ctxt.handleUnexpectedToken(CurrencyRates.class, p);
+            }
+            String[] codes = new String[32];
+            double[] rates = new double[32];
+            int size = 0;
+            boolean sorted = true;
+            String code;
+            while ((code = p.nextFieldName()) != null) {
+                final JsonToken t = p.nextToken();
+                if (size == codes.length) {
+                    codes = Arrays.copyOf(codes, size + size);
+                    rates = Arrays.copyOf(rates, size + size);
+                }
+                if (t.isStructStart()) {
+                    // would otherwise get 0.0 and continue parsing within Object/array
+                    rates[size] = ((Number) ctxt.handleUnexpectedToken(Double.TYPE, p)).doubleValue();
+                } else {
+                    // textual formats like Properties expose numbers as Strings
+                    rates[size] = p.getValueAsDouble();
+                }
+                if (sorted && size > 0 && codes[size-1].compareTo(code) > 0) {
+                    sorted = false;
+                }
+                codes[size++] = code;
+            }
+            if (!sorted) {
+                _sort(codes, rates, size);
+            }
+            return new CurrencyRates(codes, rates, size);
+        }
+
+        // Insertion sort: input is usually sorted, or close to it
+        private static void _sort(String[] codes, double[] rates, int size)
+        {
+            for (int i = 1; i < size; ++i) {
+                final String code = codes[i];
+                final double rate = rates[i];
+                int j = i - 1;
+                for (; j >= 0 && codes[j].compareTo(code) > 0; --j) {
+                    codes[j+1] = codes[j];
+                    rates[j+1] = rates[j];
+                }
+                codes[j+1] = code;
+                rates[j+1] = rate;
+            }
+        }
+    }
+}
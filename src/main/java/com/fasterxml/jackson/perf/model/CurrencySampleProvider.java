@@ -10,23 +10,33 @@ public class CurrencySampleProvider
     private final RuntimeException _fail;
 
     private final Currency _sample;
+
+    private final PrimitiveCurrency _primitiveSample;
     
     public static Currency getSample() {
         return INSTANCE._getSample();
     }
 
+    public static PrimitiveCurrency getPrimitiveSample() {
+        return INSTANCE._getPrimitiveSample();
+    }
+
     CurrencySampleProvider() {
         RuntimeException fail = null;
         Currency sample = null;
+        PrimitiveCurrency primitiveSample = null;
         try {
             byte[] json = InputData.CURRENCY_WS.bytes();
             sample = new JsonMapper().readerFor(Currency.class)
                 .readValue(json);
+            primitiveSample = new JsonMapper().readerFor(PrimitiveCurrency.class)
+                .readValue(json);
         } catch (Exception e) {
             fail = new RuntimeException(e);
         }
         _fail = fail;
         _sample = sample;
+        _primitiveSample = primitiveSample;
     }
     
     Currency _getSample() {
@@ -35,4 +45,11 @@ public class CurrencySampleProvider
         }
         return _sample;
     }
+
+    PrimitiveCurrency _getPrimitiveSample() {
+        if (_fail != null) {
+            throw _fail;
+        }
+        return _primitiveSample;
+    }
 }
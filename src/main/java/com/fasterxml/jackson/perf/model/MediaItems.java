@@ -1,5 +1,8 @@
 package com.fasterxml.jackson.perf.model;
 
+import java.util.ArrayList;
+import java.util.Random;
+
 public class MediaItems
 {
     protected final static Image IMAGE1 = new Image("http://javaone.com/keynote_large.jpg",
@@ -41,4 +44,46 @@ public class MediaItems
     public static FlattenedMediaItem flatMediaItem() {
         return FLAT_MEDIA_ITEM;
     }
+
+    /**
+     * Method for constructing variant of standard {@code MediaItem} with given
+     * number of images and persons (all distinct), for testing how performance
+     * scales with payload size.
+     */
+    public static MediaItem scaledMediaItem(int imageCount, int personCount)
+    {
+        MediaContent content = new MediaContent(STD_MEDIA_ITEM.getContent());
+        // copy-constructor shares List so need a new one
+        content.setPersons(new ArrayList<String>(personCount));
+        for (int i = 0; i < personCount; ++i) {
+            content.addPerson("Person #"+i);
+        }
+        MediaItem item = new MediaItem(content);
+        item.setImages(new ArrayList<Image>(imageCount));
+        for (int i = 0; i < imageCount; ++i) {
+            if ((i & 1) == 0) {
+                item.addPhoto(new Image("http://javaone.com/keynote_large_"+i+".jpg",
+                        "Javaone Keynote #"+i, 1024, 768, Size.LARGE));
+            } else {
+                item.addPhoto(new Image("http://javaone.com/keynote_small_"+i+".jpg",
+                        "Javaone Keynote #"+i, 320, 240, Size.SMALL));
+            }
+        }
+        return item;
+    }
+
+    /**
+     * Method for constructing variant of standard {@code MediaItem} with
+     * thumbnail of given size in bytes (random, that is, incompressible
+     * like actual image data).
+     */
+    public static BinaryMediaItem binaryMediaItem(int thumbnailSize)
+    {
+        BinaryMediaItem item = new BinaryMediaItem(STD_MEDIA_ITEM.getContent());
+        item.setImages(STD_MEDIA_ITEM.getImages());
+        byte[] thumbnail = new byte[thumbnailSize];
+        new Random(thumbnailSize).nextBytes(thumbnail);
+        item.setThumbnail(thumbnail);
+        return item;
+    }
 }
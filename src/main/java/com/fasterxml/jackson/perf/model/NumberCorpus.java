@@ -0,0 +1,66 @@
+package com.fasterxml.jackson.perf.model;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * Model class for numeric-heavy content (like telemetry payloads): arrays
+ * of floating-point, integral and arbitrary-precision numbers.
+ */
+public class NumberCorpus
+{
+    public double[] doubles;
+
+    public float[] floats;
+
+    public long[] longs;
+
+    public BigDecimal[] decimals;
+
+    public BigInteger[] bigIntegers;
+
+    /**
+     * Factory method for generating random values, {@code count} of each type,
+     * with at most {@code digits} significant digits (but no more than
+     * type can represent: 17 for {@code double}, 9 for {@code float}
+     * and 18 for {@code long}).
+     */
+    public static NumberCorpus generate(long seed, int count, int digits)
+    {
+        Random rnd = new Random(seed);
+        NumberCorpus corpus = new NumberCorpus();
+        corpus.doubles = new double[count];
+        corpus.floats = new float[count];
+        corpus.longs = new long[count];
+        corpus.decimals = new BigDecimal[count];
+        corpus.bigIntegers = new BigInteger[count];
+        for (int i = 0; i < count; ++i) {
+            corpus.doubles[i] = _decimal(rnd, Math.min(digits, 17), 10).doubleValue();
+            corpus.floats[i] = _decimal(rnd, Math.min(digits, 9), 5).floatValue();
+            corpus.longs[i] = _integer(rnd, Math.min(digits, 18)).longValue();
+            corpus.decimals[i] = _decimal(rnd, digits, digits);
+            corpus.bigIntegers[i] = _integer(rnd, digits);
+        }
+        return corpus;
+    }
+
+    // Random signed value with exactly given number of digits
+    private static BigInteger _integer(Random rnd, int digits)
+    {
+        StringBuilder sb = new StringBuilder(digits + 1);
+        if (rnd.nextBoolean()) {
+            sb.append('-');
+        }
+        sb.append((char) ('1' + rnd.nextInt(9)));
+        for (int i = 1; i < digits; ++i) {
+            sb.append((char) ('0' + rnd.nextInt(10)));
+        }
+        return new BigInteger(sb.toString());
+    }
+
+    // Random value with given number of digits, decimal point moved by up to given amount
+    private static BigDecimal _decimal(Random rnd, int digits, int maxScale) {
+        return new BigDecimal(_integer(rnd, digits), rnd.nextInt(maxScale * 2 + 1) - maxScale);
+    }
+}
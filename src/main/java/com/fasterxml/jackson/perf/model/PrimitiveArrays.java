@@ -0,0 +1,88 @@
+package com.fasterxml.jackson.perf.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Model classes for array-heavy payloads (like sensor frames): a single
+ * array of {@code int}s, {@code long}s, {@code float}s or {@code double}s,
+ * as well as {@code List<Double>} for comparison. Arrays are wrapped in
+ * POJOs (instead of being used as root values) so that all formats,
+ * including ones that require Object root value or schema, can be used.
+ */
+public class PrimitiveArrays
+{
+    public static class Ints {
+        public int[] values;
+    }
+
+    public static class Longs {
+        public long[] values;
+    }
+
+    public static class Floats {
+        public float[] values;
+    }
+
+    public static class Doubles {
+        public double[] values;
+    }
+
+    public static class DoubleList {
+        public List<Double> values;
+    }
+
+    public static Ints ints(long seed, int count) {
+        Random rnd = new Random(seed);
+        Ints value = new Ints();
+        value.values = new int[count];
+        for (int i = 0; i < count; ++i) {
+            value.values[i] = rnd.nextInt();
+        }
+        return value;
+    }
+
+    public static Longs longs(long seed, int count) {
+        Random rnd = new Random(seed);
+        Longs value = new Longs();
+        value.values = new long[count];
+        for (int i = 0; i < count; ++i) {
+            value.values[i] = rnd.nextLong();
+        }
+        return value;
+    }
+
+    public static Floats floats(long seed, int count) {
+        Random rnd = new Random(seed);
+        Floats value = new Floats();
+        value.values = new float[count];
+        for (int i = 0; i < count; ++i) {
+            value.values[i] = (float) (rnd.nextGaussian() * 100.0);
+        }
+        return value;
+    }
+
+    public static Doubles doubles(long seed, int count) {
+        Random rnd = new Random(seed);
+        Doubles value = new Doubles();
+        value.values = new double[count];
+        for (int i = 0; i < count; ++i) {
+            value.values[i] = rnd.nextGaussian() * 100.0;
+        }
+        return value;
+    }
+
+    /**
+     * Method for constructing {@link DoubleList} with same values as
+     * {@link #doubles} would produce for same arguments.
+     */
+    public static DoubleList doubleList(long seed, int count) {
+        DoubleList value = new DoubleList();
+        value.values = new ArrayList<>(count);
+        for (double d : doubles(seed, count).values) {
+            value.values.add(d);
+        }
+        return value;
+    }
+}
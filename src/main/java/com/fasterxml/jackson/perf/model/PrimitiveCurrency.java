@@ -0,0 +1,12 @@
+package com.fasterxml.jackson.perf.model;
+
+/**
+ * Variant of {@link Currency} that stores rates without boxing, using
+ * {@link CurrencyRates}; reads and writes same content.
+ */
+public class PrimitiveCurrency {
+    public String base, date, provider, terms;
+    public int time_last_updated;
+
+    public CurrencyRates rates;
+}
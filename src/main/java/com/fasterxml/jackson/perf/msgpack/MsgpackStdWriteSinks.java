@@ -0,0 +1,18 @@
+package com.fasterxml.jackson.perf.msgpack;
+
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.perf.WritePerfSinksJackson;
+import com.fasterxml.jackson.perf.model.MediaItem;
+
+@State(Scope.Thread)
+public class MsgpackStdWriteSinks
+    extends WritePerfSinksJackson<MediaItem>
+{
+    public MsgpackStdWriteSinks() {
+        super(new ObjectMapper(new MessagePackFactory()));
+    }
+}
@@ -0,0 +1,49 @@
+package com.fasterxml.jackson.perf.numbers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.perf.data.DataFormat;
+import com.fasterxml.jackson.perf.model.NumberCorpus;
+
+/**
+ * Base class for reading and writing {@link NumberCorpus} values: arrays of
+ * {@code count} doubles, floats, longs, {@code BigDecimal}s and {@code BigInteger}s,
+ * with up to {@code digits} significant digits.
+ *<p>
+ * NOTE: JMH requires {@code @Param}s to be declared in {@code @State} class.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public abstract class NumberCorpusBase
+{
+    @Param({"JSON", "SMILE", "CBOR", "YAML", "TOML"})
+    public DataFormat format;
+
+    @Param("1000")
+    public int count;
+
+    @Param({"6", "17", "30"})
+    public int digits;
+
+    protected ObjectMapper mapper;
+
+    protected NumberCorpus corpus;
+
+    protected byte[] input;
+
+    protected void setupCorpus() throws Exception
+    {
+        mapper = format.newMapper();
+        corpus = NumberCorpus.generate(count, count, digits);
+        input = mapper.writeValueAsBytes(corpus);
+    }
+}
@@ -0,0 +1,51 @@
+package com.fasterxml.jackson.perf.numbers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.perf.AuxStateSize;
+import com.fasterxml.jackson.perf.AuxStateThroughput;
+import com.fasterxml.jackson.perf.model.NumberCorpus;
+
+/**
+ * Tests for reading {@link NumberCorpus} values with all combinations of
+ * {@link StreamReadFeature#USE_FAST_DOUBLE_PARSER} and
+ * {@link StreamReadFeature#USE_FAST_BIG_NUMBER_PARSER}:
+ *<pre>
+ *  java -jar target/perf.jar NumberCorpusRead -p format=JSON -p digits=17
+ *</pre>
+ */
+public class NumberCorpusRead extends NumberCorpusBase
+{
+    @Param({"false", "true"})
+    public boolean fastDoubleParser;
+
+    @Param({"false", "true"})
+    public boolean fastBigNumberParser;
+
+    protected ObjectReader reader;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        setupCorpus();
+        ObjectReader r = mapper.readerFor(NumberCorpus.class);
+        r = fastDoubleParser ? r.with(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
+                : r.without(StreamReadFeature.USE_FAST_DOUBLE_PARSER);
+        r = fastBigNumberParser ? r.with(StreamReadFeature.USE_FAST_BIG_NUMBER_PARSER)
+                : r.without(StreamReadFeature.USE_FAST_BIG_NUMBER_PARSER);
+        reader = r;
+    }
+
+    @Benchmark
+    public void readNumbers(Blackhole bh, AuxStateSize size, AuxStateThroughput rate) throws Exception
+    {
+        size.set(input.length);
+        rate.add(input.length);
+        bh.consume(reader.readValue(input));
+    }
+}
@@ -0,0 +1,47 @@
+package com.fasterxml.jackson.perf.numbers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.perf.AuxStateSize;
+import com.fasterxml.jackson.perf.AuxStateThroughput;
+import com.fasterxml.jackson.perf.model.NumberCorpus;
+import com.fasterxml.jackson.perf.util.NopOutputStream;
+
+/**
+ * Tests for writing {@link NumberCorpus} values with and without
+ * {@link StreamWriteFeature#USE_FAST_DOUBLE_WRITER}:
+ *<pre>
+ *  java -jar target/perf.jar NumberCorpusWrite -p format=JSON -p digits=17
+ *</pre>
+ */
+public class NumberCorpusWrite extends NumberCorpusBase
+{
+    @Param({"false", "true"})
+    public boolean fastDoubleWriter;
+
+    protected ObjectWriter writer;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        setupCorpus();
+        ObjectWriter w = mapper.writerFor(NumberCorpus.class);
+        writer = fastDoubleWriter ? w.with(StreamWriteFeature.USE_FAST_DOUBLE_WRITER)
+                : w.without(StreamWriteFeature.USE_FAST_DOUBLE_WRITER);
+    }
+
+    @Benchmark
+    public void writeNumbers(Blackhole bh, AuxStateSize size, AuxStateThroughput rate) throws Exception
+    {
+        NopOutputStream out = new NopOutputStream();
+        writer.writeValue(out, corpus);
+        size.set(out.size());
+        rate.add(out.size());
+        bh.consume(out.size());
+    }
+}
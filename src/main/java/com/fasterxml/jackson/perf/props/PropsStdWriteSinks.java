@@ -0,0 +1,19 @@
+package com.fasterxml.jackson.perf.props;
+
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+
+import com.fasterxml.jackson.dataformat.javaprop.JavaPropsMapper;
+import com.fasterxml.jackson.perf.WritePerfSinksJackson;
+import com.fasterxml.jackson.perf.model.MediaItem;
+
+@State(Scope.Thread)
+public class PropsStdWriteSinks
+    extends WritePerfSinksJackson<MediaItem>
+{
+    private static final JavaPropsMapper PROPS_MAPPER = new JavaPropsMapper();
+
+    public PropsStdWriteSinks() {
+        super(PROPS_MAPPER);
+    }
+}
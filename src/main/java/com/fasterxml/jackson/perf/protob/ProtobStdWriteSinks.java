@@ -0,0 +1,23 @@
+package com.fasterxml.jackson.perf.protob;
+
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.perf.WritePerfSinksJackson;
+import com.fasterxml.jackson.perf.model.MediaItem;
+
+@State(Scope.Thread)
+public class ProtobStdWriteSinks
+    extends WritePerfSinksJackson<MediaItem>
+{
+    private static final ObjectMapper MAPPER = new ObjectMapper(new ProtobufFactory());
+
+    private final static ProtobufSchema _mediaItemSchema = ProtobufHelper.mediaItemSchema();
+
+    public ProtobStdWriteSinks() {
+        super(MAPPER, _mediaItemSchema);
+    }
+}
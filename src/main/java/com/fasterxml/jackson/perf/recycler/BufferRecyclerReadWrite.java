@@ -0,0 +1,105 @@
+package com.fasterxml.jackson.perf.recycler;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.perf.data.DataFormat;
+import com.fasterxml.jackson.perf.data.InputConverter;
+import com.fasterxml.jackson.perf.model.MediaItem;
+import com.fasterxml.jackson.perf.model.MediaItems;
+import com.fasterxml.jackson.perf.util.NopOutputStream;
+
+/**
+ * Benchmark for comparing {@link RecyclerStrategy} alternatives for JSON,
+ * Smile and CBOR factories. All threads share the same factory (and thereby
+ * recycler pool) so this is meant to be run with varying thread counts,
+ * and with GC profiler to see allocation per operation:
+ *<pre>
+ *  java -cp target/perf.jar com.fasterxml.jackson.perf.concurrent.ThreadScalingRunner 16 ".*BufferRecyclerReadWrite.*" -prof gc
+ *</pre>
+ * Note that all strategies, including {@link RecyclerStrategy#THREAD_LOCAL},
+ * construct parsers and generators the same way, so the numbers are
+ * comparable with each other but not necessarily with {@code xxxStdReadVanilla}
+ * tests.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BufferRecyclerReadWrite
+{
+    @Param
+    public RecyclerStrategy strategy;
+
+    @Param({ "JSON", "SMILE", "CBOR" })
+    public DataFormat format;
+
+    private RecyclerPool _pool;
+
+    private RecyclingFactory _factory;
+
+    private ObjectReader MEDIA_ITEM_READER;
+
+    private ObjectWriter MEDIA_ITEM_WRITER;
+
+    private MediaItem _item;
+
+    private byte[] _input;
+
+    @Setup
+    public void setup()
+    {
+        JsonFactory f;
+        switch (format) {
+        case JSON:
+            f = new RecyclingJsonFactory();
+            break;
+        case SMILE:
+            f = new RecyclingSmileFactory();
+            break;
+        case CBOR:
+            f = new RecyclingCBORFactory();
+            break;
+        default:
+            throw new IllegalStateException("Unsupported format: "+format);
+        }
+        _factory = (RecyclingFactory) f;
+        _pool = strategy.newPool();
+        ObjectMapper mapper = new ObjectMapper(f);
+        MEDIA_ITEM_READER = mapper.readerFor(MediaItem.class);
+        MEDIA_ITEM_WRITER = mapper.writerFor(MediaItem.class);
+        _item = MediaItems.stdMediaItem();
+        _input = InputConverter.stdConverter(mapper).mediaItemAsBytes();
+    }
+
+    @Benchmark
+    public void readPojoMediaItem(Blackhole bh) throws Exception
+    {
+        final BufferRecycler br = _pool.acquire();
+        try (JsonParser p = _factory.createParser(br, _input)) {
+            bh.consume(MEDIA_ITEM_READER.readValue(p));
+        } finally {
+            _pool.release(br);
+        }
+    }
+
+    @Benchmark
+    public void writePojoMediaItem(Blackhole bh) throws Exception
+    {
+        final BufferRecycler br = _pool.acquire();
+        NopOutputStream out = new NopOutputStream();
+        try (JsonGenerator g = _factory.createGenerator(br, out)) {
+            MEDIA_ITEM_WRITER.writeValue(g, _item);
+        } finally {
+            _pool.release(br);
+        }
+        bh.consume(out.size());
+    }
+}
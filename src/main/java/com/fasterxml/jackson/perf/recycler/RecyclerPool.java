@@ -0,0 +1,15 @@
+package com.fasterxml.jackson.perf.recycler;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+/**
+ * Simple abstraction for strategies of obtaining {@link BufferRecycler}
+ * instances for parsers and generators, and returning them once parser
+ * or generator has been closed.
+ */
+public interface RecyclerPool
+{
+    public BufferRecycler acquire();
+
+    public void release(BufferRecycler recycler);
+}
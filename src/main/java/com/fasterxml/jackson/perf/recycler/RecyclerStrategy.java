@@ -0,0 +1,145 @@
+package com.fasterxml.jackson.perf.recycler;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.BufferRecyclers;
+
+/**
+ * Alternative strategies for recycling {@link BufferRecycler}s (and thereby
+ * buffers they hold).
+ */
+public enum RecyclerStrategy
+{
+    /**
+     * Default strategy used by {@code JsonFactory}: one recycler per thread,
+     * held via {@link ThreadLocal} (and {@link java.lang.ref.SoftReference}).
+     */
+    THREAD_LOCAL() {
+        @Override
+        public RecyclerPool newPool() {
+            return new RecyclerPool() {
+                @Override
+                public BufferRecycler acquire() {
+                    return BufferRecyclers.getBufferRecycler();
+                }
+
+                @Override
+                public void release(BufferRecycler recycler) { }
+            };
+        }
+    },
+
+    /**
+     * Unbounded lock-free pool (Treiber stack) shared by all threads
+     * using the factory.
+     *<p>
+     * NOTE: allocates a new stack node for every release, which is included
+     * in allocation per operation reported for this strategy; nodes are not
+     * reused (or preallocated) as that would expose stack to ABA problem.
+     */
+    LOCK_FREE() {
+        @Override
+        public RecyclerPool newPool() {
+            return new LockFreePool();
+        }
+    },
+
+    /**
+     * Bounded pool backed by a concurrent deque shared by all threads using
+     * the factory; recyclers released when pool is full are simply dropped.
+     */
+    BOUNDED_DEQUE() {
+        @Override
+        public RecyclerPool newPool() {
+            return new BoundedDequePool(BOUNDED_POOL_SIZE);
+        }
+    },
+
+    /**
+     * No recycling at all: new recycler (and buffers) for every parser and
+     * generator.
+     */
+    NONE() {
+        @Override
+        public RecyclerPool newPool() {
+            return new RecyclerPool() {
+                @Override
+                public BufferRecycler acquire() {
+                    return new BufferRecycler();
+                }
+
+                @Override
+                public void release(BufferRecycler recycler) { }
+            };
+        }
+    },
+    ;
+
+    protected final static int BOUNDED_POOL_SIZE = 64;
+
+    public abstract RecyclerPool newPool();
+
+    static class LockFreePool implements RecyclerPool
+    {
+        private final AtomicReference<Node> _head = new AtomicReference<>();
+
+        @Override
+        public BufferRecycler acquire() {
+            while (true) {
+                Node head = _head.get();
+                if (head == null) {
+                    return new BufferRecycler();
+                }
+                if (_head.compareAndSet(head, head.next)) {
+                    return head.value;
+                }
+            }
+        }
+
+        @Override
+        public void release(BufferRecycler recycler) {
+            // new node for each release: GC guarantees a node can not be
+            // pushed back while another thread is popping it
+            Node newHead = new Node(recycler);
+            while (true) {
+                Node head = _head.get();
+                newHead.next = head;
+                if (_head.compareAndSet(head, newHead)) {
+                    return;
+                }
+            }
+        }
+
+        static class Node {
+            final BufferRecycler value;
+            Node next;
+
+            Node(BufferRecycler value) {
+                this.value = value;
+            }
+        }
+    }
+
+    static class BoundedDequePool implements RecyclerPool
+    {
+        private final BlockingDeque<BufferRecycler> _pool;
+
+        BoundedDequePool(int size) {
+            _pool = new LinkedBlockingDeque<>(size);
+        }
+
+        @Override
+        public BufferRecycler acquire() {
+            BufferRecycler r = _pool.pollFirst();
+            return (r == null) ? new BufferRecycler() : r;
+        }
+
+        @Override
+        public void release(BufferRecycler recycler) {
+            _pool.offerLast(recycler);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.fasterxml.jackson.perf.recycler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+public class RecyclingCBORFactory
+    extends CBORFactory
+    implements RecyclingFactory
+{
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public JsonParser createParser(BufferRecycler recycler, byte[] data) throws IOException {
+        IOContext ctxt = new IOContext(streamReadConstraints(), recycler,
+                _createContentReference(data), true);
+        return _createParser(data, 0, data.length, ctxt);
+    }
+
+    @Override
+    public JsonGenerator createGenerator(BufferRecycler recycler, OutputStream out) throws IOException {
+        IOContext ctxt = new IOContext(streamReadConstraints(), recycler,
+                _createContentReference(out), false);
+        ctxt.setEncoding(JsonEncoding.UTF8);
+        return _createUTF8Generator(out, ctxt);
+    }
+}
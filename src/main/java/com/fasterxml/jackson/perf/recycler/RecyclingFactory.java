@@ -0,0 +1,20 @@
+package com.fasterxml.jackson.perf.recycler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+/**
+ * Interface implemented by format factory sub-classes that allow caller to
+ * pass {@link BufferRecycler} to use, instead of factory calling its
+ * {@code _getBufferRecycler()}.
+ */
+public interface RecyclingFactory
+{
+    public JsonParser createParser(BufferRecycler recycler, byte[] data) throws IOException;
+
+    public JsonGenerator createGenerator(BufferRecycler recycler, OutputStream out) throws IOException;
+}
@@ -0,0 +1,68 @@
+package com.fasterxml.jackson.perf.results;
+
+/**
+ * Single primary result of a benchmark run: score along with its error
+ * (half-width of 99.9% confidence interval, as reported by JMH).
+ */
+public class BenchmarkScore
+{
+    /**
+     * Benchmark identifier without package name (like
+     * {@code "JsonStdReadVanilla.readPojoMediaItem"}), followed by
+     * parameter values (if any) separated by spaces.
+     */
+    public final String key;
+
+    /**
+     * JMH mode abbreviation: {@code thrpt}, {@code avgt}, {@code sample} or {@code ss}.
+     */
+    public final String mode;
+
+    /**
+     * Number of measurement samples, if known; 0 if not.
+     */
+    public final int count;
+
+    public final double score;
+
+    /**
+     * Score error; {@code NaN} if not known (single sample).
+     */
+    public final double error;
+
+    public final String unit;
+
+    public BenchmarkScore(String key, String mode, int count,
+            double score, double error, String unit)
+    {
+        this.key = key;
+        this.mode = mode;
+        this.count = count;
+        this.score = score;
+        this.error = error;
+        this.unit = unit;
+    }
+
+    /**
+     * Whether higher score is better (throughput) or worse (time per operation)
+     */
+    public boolean higherIsBetter() {
+        return "thrpt".equals(mode);
+    }
+
+    public double lowerBound() {
+        return Double.isNaN(error) ? score : (score - error);
+    }
+
+    public double upperBound() {
+        return Double.isNaN(error) ? score : (score + error);
+    }
+
+    @Override
+    public String toString() {
+        if (Double.isNaN(error)) {
+            return String.format("%.3f %s", score, unit);
+        }
+        return String.format("%.3f ± %.3f %s", score, error, unit);
+    }
+}
@@ -0,0 +1,143 @@
+package com.fasterxml.jackson.perf.results;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tool for comparing benchmark results between two or more result sets
+ * (results files, directories of them, or JMH JSON output) and flagging
+ * regressions.
+ *<p>
+ * Usage:
+ *<pre>
+ *  java -cp target/perf.jar com.fasterxml.jackson.perf.results.RegressionDetector [-t threshold%] baseline candidate [...]
+ *</pre>
+ * where each argument is either a file or a directory (in which case all
+ * results files it contains are included, ordered by version in file name).
+ * Each result set is compared to the one preceding it; except that results
+ * from different series in a directory (like {@code -home} and {@code -work}
+ * results, measured on different machines) are not compared.
+ *<p>
+ * A change is considered a regression if the score is worse by at least
+ * the threshold (default 5%) AND error bounds (99.9% confidence intervals
+ * reported by JMH) of the two results do not overlap; improvements are
+ * reported using same criteria. Exit code is 1 if any regressions were found.
+ */
+public class RegressionDetector
+{
+    protected final static double DEFAULT_THRESHOLD_PCT = 5.0;
+
+    public enum Verdict {
+        REGRESSION, IMPROVEMENT, NO_CHANGE, INCOMPARABLE;
+    }
+
+    protected final double _thresholdPct;
+
+    public RegressionDetector(double thresholdPct) {
+        _thresholdPct = thresholdPct;
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        double threshold = DEFAULT_THRESHOLD_PCT;
+        List<ResultSet> sets = new ArrayList<>();
+        for (int i = 0; i < args.length; ++i) {
+            if ("-t".equals(args[i]) && (i+1) < args.length) {
+                threshold = Double.parseDouble(args[++i]);
+            } else {
+                sets.addAll(ResultParser.parseAll(new File(args[i])));
+            }
+        }
+        if (sets.size() < 2) {
+            System.err.println("Usage: java "+RegressionDetector.class.getName()
+                    +" [-t threshold%] baseline candidate [...]");
+            System.exit(2);
+        }
+        RegressionDetector detector = new RegressionDetector(threshold);
+        int regressions = 0;
+        for (int i = 1; i < sets.size(); ++i) {
+            ResultSet baseline = sets.get(i-1);
+            ResultSet candidate = sets.get(i);
+            if ((baseline.series() != null) && (candidate.series() != null)
+                    && !baseline.series().equals(candidate.series())) {
+                continue;
+            }
+            regressions += detector.report(baseline, candidate);
+        }
+        System.out.printf("\n%d regression(s) found (threshold %.1f%%)\n", regressions, threshold);
+        System.exit((regressions == 0) ? 0 : 1);
+    }
+
+    /**
+     * Method for comparing a single pair of results.
+     */
+    public Verdict compare(BenchmarkScore baseline, BenchmarkScore candidate)
+    {
+        if (!baseline.mode.equals(candidate.mode) || !baseline.unit.equals(candidate.unit)
+                || baseline.score == 0.0) {
+            return Verdict.INCOMPARABLE;
+        }
+        final double changePct = changePct(baseline, candidate);
+        if (Math.abs(changePct) < _thresholdPct) {
+            return Verdict.NO_CHANGE;
+        }
+        final boolean higher = candidate.score > baseline.score;
+        // Must be outside error bounds too to be significant
+        final boolean significant = higher
+                ? (candidate.lowerBound() > baseline.upperBound())
+                : (candidate.upperBound() < baseline.lowerBound());
+        if (!significant) {
+            return Verdict.NO_CHANGE;
+        }
+        return (higher == baseline.higherIsBetter()) ? Verdict.IMPROVEMENT : Verdict.REGRESSION;
+    }
+
+    /**
+     * Method that prints out comparison of all benchmarks included in both
+     * result sets
+     *
+     * @return Number of regressions found
+     */
+    public int report(ResultSet baseline, ResultSet candidate)
+    {
+        System.out.printf("\n=== %s -> %s ===\n", baseline, candidate);
+        int width = 20;
+        for (BenchmarkScore score : candidate.scores()) {
+            width = Math.max(width, score.key.length());
+        }
+        final String rowFormat = "%-"+width+"s  %26s  %26s  %8s  %s\n";
+        System.out.printf(rowFormat, "Benchmark", "Baseline", "Candidate", "Change", "");
+        int regressions = 0;
+        int compared = 0;
+        for (BenchmarkScore score : candidate.scores()) {
+            BenchmarkScore base = baseline.get(score.key);
+            if (base == null) {
+                continue;
+            }
+            ++compared;
+            Verdict verdict = compare(base, score);
+            if (verdict == Verdict.REGRESSION) {
+                ++regressions;
+            }
+            System.out.printf(rowFormat, score.key,
+                    _format(base), _format(score),
+                    (verdict == Verdict.INCOMPARABLE) ? "N/A"
+                            : String.format("%+.1f%%", changePct(base, score)),
+                    (verdict == Verdict.NO_CHANGE) ? "" : verdict);
+        }
+        System.out.printf("(%d benchmarks compared; %d regressions)\n", compared, regressions);
+        return regressions;
+    }
+
+    protected static double changePct(BenchmarkScore baseline, BenchmarkScore candidate) {
+        return 100.0 * (candidate.score - baseline.score) / baseline.score;
+    }
+
+    private static String _format(BenchmarkScore score) {
+        if (Double.isNaN(score.error)) {
+            return String.format("%.3f", score.score);
+        }
+        return String.format("%.3f ± %.3f", score.score, score.error);
+    }
+}
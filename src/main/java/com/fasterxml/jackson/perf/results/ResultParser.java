@@ -0,0 +1,172 @@
+package com.fasterxml.jackson.perf.results;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Parser for benchmark results, either from hand-maintained results files
+ * (like {@code results-pojo-2.15-home.txt}, which contain JMH console output
+ * pasted between notes) or from JMH JSON output (from {@code -rf json}).
+ *<p>
+ * Benchmark names are shortened to "class.method" so that abbreviated
+ * names ({@code c.f.j.p.json.JsonStdReadVanilla.readPojoMediaItem}) and
+ * full ones match.
+ */
+public class ResultParser
+{
+    private final static ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Pattern for a JMH console output row: benchmark name, optional parameter
+     * values, mode, optional sample count, score, optional error (preceded by
+     * "±" in newer JMH versions), and unit.
+     */
+    private final static Pattern RESULT_ROW = Pattern.compile(
+            "^(\\S+)((?:\\s+\\S+)*?)\\s+(thrpt|avgt|sample|ss)"
+            +"\\s+(?:(\\d+)\\s+)?(-?\\d+(?:\\.\\d+)?)"
+            +"(?:\\s+(?:±|\\?)?\\s*(\\d+(?:\\.\\d+)?|NaN))?\\s+(\\S+)\\s*$");
+
+    private final static Pattern VERSION = Pattern.compile("\\d+(?:\\.\\d+)+");
+
+    /**
+     * Method for parsing results from given file, which may be either JMH
+     * JSON output (if name ends with {@code .json}) or textual results file.
+     */
+    public static ResultSet parse(File f) throws IOException
+    {
+        try (InputStream in = new FileInputStream(f)) {
+            if (f.getName().endsWith(".json")) {
+                return parseJmhJson(f.getName(), in);
+            }
+            return parseText(f.getName(),
+                    new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Method for parsing given file, or if it is a directory, all results files
+     * it contains, grouped by series (see {@link ResultSet#series()}) and
+     * ordered by version number included in file name (if any).
+     */
+    public static List<ResultSet> parseAll(File f) throws IOException
+    {
+        List<ResultSet> results = new ArrayList<>();
+        if (!f.isDirectory()) {
+            results.add(parse(f));
+            return results;
+        }
+        File[] files = f.listFiles((dir, name) -> name.endsWith(".txt") || name.endsWith(".json"));
+        Arrays.sort(files, (f1, f2) -> {
+            int diff = seriesOf(f1.getName()).compareTo(seriesOf(f2.getName()));
+            if (diff == 0) {
+                diff = compareVersions(versionOf(f1.getName()), versionOf(f2.getName()));
+            }
+            return diff;
+        });
+        for (File file : files) {
+            results.add(parse(file).setSeries(seriesOf(file.getName())));
+        }
+        return results;
+    }
+
+    public static ResultSet parseText(String label, Reader r) throws IOException
+    {
+        ResultSet results = new ResultSet(label);
+        BufferedReader br = new BufferedReader(r);
+        String line;
+        while ((line = br.readLine()) != null) {
+            Matcher m = RESULT_ROW.matcher(line.trim());
+            if (!m.matches()) {
+                continue;
+            }
+            String name = m.group(1);
+            // secondary results (":size", ":·gc.alloc.rate" etc) not compared
+            if (name.indexOf(':') >= 0) {
+                continue;
+            }
+            StringBuilder key = new StringBuilder(shortName(name));
+            // "N/A" shown for parameters other benchmarks of the same run have
+            for (String param : m.group(2).trim().split("\\s+")) {
+                if (!param.isEmpty() && !"N/A".equals(param)) {
+                    key.append(' ').append(param);
+                }
+            }
+            String count = m.group(4);
+            String error = m.group(6);
+            results.add(new BenchmarkScore(key.toString(), m.group(3),
+                    (count == null) ? 0 : Integer.parseInt(count),
+                    Double.parseDouble(m.group(5)),
+                    (error == null) ? Double.NaN : Double.parseDouble(error),
+                    m.group(7)));
+        }
+        return results;
+    }
+
+    public static ResultSet parseJmhJson(String label, InputStream in) throws IOException
+    {
+        ResultSet results = new ResultSet(label);
+        for (JsonNode run : MAPPER.readTree(in)) {
+            StringBuilder key = new StringBuilder(shortName(run.path("benchmark").asText()));
+            // JSON Object, ordered same as parameter columns of console output
+            for (JsonNode param : run.path("params")) {
+                key.append(' ').append(param.asText());
+            }
+            JsonNode metric = run.path("primaryMetric");
+            int count = 0;
+            for (JsonNode fork : metric.path("rawData")) {
+                count += fork.size();
+            }
+            results.add(new BenchmarkScore(key.toString(), run.path("mode").asText(), count,
+                    metric.path("score").asDouble(),
+                    // "NaN" is written as String
+                    Double.parseDouble(metric.path("scoreError").asText("NaN")),
+                    metric.path("scoreUnit").asText()));
+        }
+        return results;
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper methods
+    /**********************************************************************
+     */
+
+    /**
+     * Helper method for shortening fully-qualified (or abbreviated) benchmark
+     * name into "class.method".
+     */
+    protected static String shortName(String name) {
+        int ix = name.lastIndexOf('.');
+        if (ix > 0) {
+            ix = name.lastIndexOf('.', ix - 1);
+        }
+        return name.substring(ix + 1);
+    }
+
+    protected static String versionOf(String name) {
+        Matcher m = VERSION.matcher(name);
+        return m.find() ? m.group() : "";
+    }
+
+    protected static String seriesOf(String name) {
+        return VERSION.matcher(name).replaceFirst("*");
+    }
+
+    protected static int compareVersions(String v1, String v2) {
+        String[] parts1 = v1.isEmpty() ? new String[0] : v1.split("\\.");
+        String[] parts2 = v2.isEmpty() ? new String[0] : v2.split("\\.");
+        for (int i = 0, end = Math.min(parts1.length, parts2.length); i < end; ++i) {
+            int diff = Integer.compare(Integer.parseInt(parts1[i]), Integer.parseInt(parts2[i]));
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return Integer.compare(parts1.length, parts2.length);
+    }
+}
@@ -0,0 +1,71 @@
+package com.fasterxml.jackson.perf.results;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Set of benchmark results from a single source (results file or JMH JSON
+ * output), indexed by {@link BenchmarkScore#key}.
+ */
+public class ResultSet
+{
+    protected final String _label;
+
+    /**
+     * Name of series of results this set belongs to, if read from a directory
+     * of results files: file name with version number removed (so that
+     * {@code results-pojo-2.11-home.txt} and {@code results-pojo-2.11-work.txt}
+     * belong to different series).
+     * Null for sets read from explicitly specified files.
+     */
+    protected String _series;
+
+    protected final Map<String, BenchmarkScore> _scores = new LinkedHashMap<>();
+
+    /**
+     * Number of results dropped because another result for the same key
+     * was already included
+     */
+    protected int _duplicates;
+
+    public ResultSet(String label) {
+        _label = label;
+    }
+
+    public String label() { return _label; }
+
+    public String series() { return _series; }
+
+    public ResultSet setSeries(String series) {
+        _series = series;
+        return this;
+    }
+
+    public int duplicates() { return _duplicates; }
+
+    public int size() { return _scores.size(); }
+
+    public BenchmarkScore get(String key) { return _scores.get(key); }
+
+    public Collection<BenchmarkScore> scores() { return _scores.values(); }
+
+    /**
+     * Method for adding given result, unless there already is one for the
+     * same key: first result is retained, since results files sometimes
+     * repeat benchmarks with different settings (JVM version etc) in later
+     * sections.
+     */
+    public void add(BenchmarkScore score) {
+        if (_scores.containsKey(score.key)) {
+            ++_duplicates;
+        } else {
+            _scores.put(score.key, score);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return _label;
+    }
+}
@@ -0,0 +1,56 @@
+package com.fasterxml.jackson.perf.runner;
+
+import java.util.Map;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+
+/**
+ * Helper methods for accessing JMH {@link RunResult}s, shared by custom
+ * runners (like {@code ThreadScalingRunner} and {@code JvmMatrixRunner})
+ * that combine results of multiple runs into a single table.
+ */
+public class RunResults
+{
+    /**
+     * Label (without prefix) of normalized allocation rate (bytes per
+     * operation) reported by GC profiler ({@code -prof gc}).
+     */
+    public final static String ALLOC_RATE_NORM = "gc.alloc.rate.norm";
+
+    private RunResults() { }
+
+    /**
+     * Method for constructing key to combine results of the same benchmark
+     * (and parameters) by: short benchmark name (class and method) followed by
+     * parameters as {@code name=value}.
+     */
+    public static String key(BenchmarkParams params)
+    {
+        // Shorten "com.fasterxml.jackson.perf.concurrent.SharedMapperScaling.readPojoMediaItem"
+        // into "SharedMapperScaling.readPojoMediaItem"
+        String name = params.getBenchmark();
+        int ix = name.lastIndexOf('.', name.lastIndexOf('.') - 1);
+        StringBuilder sb = new StringBuilder(name.substring(ix+1));
+        for (String param : params.getParamsKeys()) {
+            sb.append(' ').append(param).append('=').append(params.getParam(param));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return Normalized allocation rate (bytes per operation), if GC profiler
+     *    was enabled; {@code null} if not
+     */
+    public static Double allocRateNorm(RunResult result)
+    {
+        for (Map.Entry<String, Result> secondary : result.getSecondaryResults().entrySet()) {
+            // label has a prefix char that varies between JMH versions
+            if (secondary.getKey().endsWith(ALLOC_RATE_NORM)) {
+                return secondary.getValue().getScore();
+            }
+        }
+        return null;
+    }
+}
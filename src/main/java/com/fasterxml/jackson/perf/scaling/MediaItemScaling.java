@@ -0,0 +1,107 @@
+package com.fasterxml.jackson.perf.scaling;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.core.FormatSchema;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.perf.AuxStateSize;
+import com.fasterxml.jackson.perf.data.DataFormat;
+import com.fasterxml.jackson.perf.model.MediaItem;
+import com.fasterxml.jackson.perf.model.MediaItems;
+import com.fasterxml.jackson.perf.util.NopOutputStream;
+
+/**
+ * Tests for checking how reading and writing of {@code MediaItem} scales
+ * with number of elements: item has {@code elements} images and persons
+ * (instead of 2 of each as with standard {@code MediaItem}).
+ *<p>
+ * Primary score is time per operation (whole {@code MediaItem}); secondary
+ * {@code elements} score is time per element (image or person), which
+ * should stay flat if processing scales linearly.
+ *<p>
+ * NOTE: CSV not included since it can only handle flattened {@code MediaItem}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MediaItemScaling
+{
+    /**
+     * Counter for elements processed; with {@code AverageTime} mode reported as
+     * time per element.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class ElementCount
+    {
+        public long elements;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            elements = 0L;
+        }
+    }
+
+    @Param({"JSON", "SMILE", "CBOR", "AVRO", "PROTOBUF", "ION", "MSGPACK", "BSON",
+        "XML", "YAML", "TOML", "PROPERTIES"})
+    public DataFormat format;
+
+    @Param({"1", "10", "100", "1000", "10000", "100000"})
+    public int elements;
+
+    protected ObjectReader READER;
+
+    protected ObjectWriter WRITER;
+
+    protected MediaItem item;
+
+    protected byte[] itemBytes;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        ObjectMapper mapper = format.newMapperForLargeContent();
+        item = MediaItems.scaledMediaItem(elements, elements);
+        ObjectReader r = mapper.readerFor(MediaItem.class);
+        ObjectWriter w = mapper.writerFor(MediaItem.class);
+        FormatSchema schema = format.schemaFor(mapper, MediaItem.class);
+        if (schema != null) {
+            r = r.with(schema);
+            w = w.with(schema);
+        }
+        READER = r;
+        WRITER = w;
+        itemBytes = w.writeValueAsBytes(item);
+    }
+
+    @Benchmark
+    public void readPojoMediaItem(Blackhole bh, AuxStateSize size, ElementCount count) throws Exception {
+        size.set(itemBytes.length);
+        // both images and persons
+        count.elements += 2 * elements;
+        bh.consume(READER.readValue(itemBytes));
+    }
+
+    @Benchmark
+    public void writePojoMediaItem(Blackhole bh, AuxStateSize size, ElementCount count) throws Exception {
+        NopOutputStream out = new NopOutputStream();
+        WRITER.writeValue(out, item);
+        size.set(out.size());
+        count.elements += 2 * elements;
+        bh.consume(out.size());
+    }
+}
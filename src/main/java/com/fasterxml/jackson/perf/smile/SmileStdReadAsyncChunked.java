@@ -0,0 +1,30 @@
+package com.fasterxml.jackson.perf.smile;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.perf.ReadPerfBaseAsyncJackson;
+
+/**
+ * Variant of {@link SmileStdReadAsync} that feeds content in chunks.
+ *<p>
+ * NOTE: only {@code ByteArrayFeeder} tested as Smile module does not
+ * (yet) have {@code ByteBuffer}-backed non-blocking parser.
+ */
+@State(Scope.Thread)
+public class SmileStdReadAsyncChunked
+    extends ReadPerfBaseAsyncJackson
+{
+    private static final ObjectMapper MAPPER = new ObjectMapper(new SmileFactory());
+
+    public SmileStdReadAsyncChunked() {
+        super(MAPPER);
+    }
+
+    @Override
+    protected FeederType feeder() {
+        return FeederType.BYTE_ARRAY;
+    }
+}
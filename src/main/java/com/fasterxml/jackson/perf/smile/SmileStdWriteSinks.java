@@ -0,0 +1,20 @@
+package com.fasterxml.jackson.perf.smile;
+
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.perf.WritePerfSinksJackson;
+import com.fasterxml.jackson.perf.model.MediaItem;
+
+@State(Scope.Thread)
+public class SmileStdWriteSinks
+    extends WritePerfSinksJackson<MediaItem>
+{
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory());
+
+    public SmileStdWriteSinks() {
+        super(SMILE_MAPPER);
+    }
+}
@@ -0,0 +1,147 @@
+package com.fasterxml.jackson.perf.synthetic;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.perf.AuxStateSize;
+import com.fasterxml.jackson.perf.AuxStateThroughput;
+import com.fasterxml.jackson.perf.data.DataFormat;
+import com.fasterxml.jackson.perf.data.InputConverter;
+import com.fasterxml.jackson.perf.data.SyntheticDataGenerator;
+import com.fasterxml.jackson.perf.util.NopOutputStream;
+
+/**
+ * Untyped and tree reading/writing tests over synthetic documents produced
+ * by {@link SyntheticDataGenerator}, for all schemaless formats (except XML).
+ * Shape of the document is controlled by parameters, usually overridden
+ * from command line, like:
+ *<pre>
+ *  java -jar target/perf.jar SyntheticDataReadWrite -p format=JSON,SMILE -p depth=2,6 -p unicodeRatio=0.0,0.2
+ *</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SyntheticDataReadWrite
+{
+    // XML not included as it can not represent nested arrays
+    @Param({"JSON", "SMILE", "CBOR", "ION", "MSGPACK", "BSON", "YAML", "TOML", "PROPERTIES"})
+    public DataFormat format;
+
+    @Param("42")
+    public long seed;
+
+    @Param("3")
+    public int depth;
+
+    @Param("8")
+    public int fanOut;
+
+    @Param("100")
+    public int fieldNames;
+
+    /**
+     * Probability of a value being a nested Object or array (instead of scalar),
+     * if maximum depth not yet reached
+     */
+    @Param("0.25")
+    public double nestingRatio;
+
+    @Param("16")
+    public int stringLength;
+
+    @Param("UNIFORM")
+    public SyntheticDataGenerator.LengthDistribution lengthDistribution;
+
+    @Param("0.5")
+    public double numberRatio;
+
+    /**
+     * Relative weights of int:long:double:BigDecimal values
+     */
+    @Param("1:1:1:1")
+    public String numberMix;
+
+    @Param("0.0")
+    public double unicodeRatio;
+
+    protected ObjectReader UNTYPED_READER;
+
+    protected ObjectReader NODE_READER;
+
+    protected ObjectWriter WRITER;
+
+    protected byte[] input;
+
+    protected Object untyped;
+
+    protected JsonNode node;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        byte[] json = new SyntheticDataGenerator(seed)
+                .withDepth(depth)
+                .withFanOut(fanOut)
+                .withFieldNameCardinality(fieldNames)
+                .withNestingRatio(nestingRatio)
+                .withStringLength(stringLength, lengthDistribution)
+                .withNumberRatio(numberRatio)
+                .withNumberMix(numberMix)
+                .withUnicodeRatio(unicodeRatio)
+                .generateJson();
+        ObjectMapper mapper = format.newMapper();
+        input = InputConverter.convert(mapper, json);
+        UNTYPED_READER = mapper.readerFor(Object.class);
+        NODE_READER = mapper.readerFor(JsonNode.class);
+        WRITER = mapper.writer();
+        untyped = UNTYPED_READER.readValue(input);
+        node = NODE_READER.readValue(input);
+    }
+
+    @Benchmark
+    public void readUntyped(Blackhole bh, AuxStateSize size, AuxStateThroughput rate) throws Exception {
+        size.set(input.length);
+        rate.add(input.length);
+        bh.consume(UNTYPED_READER.readValue(input));
+    }
+
+    @Benchmark
+    public void readNode(Blackhole bh, AuxStateSize size, AuxStateThroughput rate) throws Exception {
+        size.set(input.length);
+        rate.add(input.length);
+        bh.consume(NODE_READER.readValue(input));
+    }
+
+    @Benchmark
+    public void writeUntyped(Blackhole bh, AuxStateSize size, AuxStateThroughput rate) throws Exception {
+        bh.consume(write(untyped, size, rate));
+    }
+
+    @Benchmark
+    public void writeNode(Blackhole bh, AuxStateSize size, AuxStateThroughput rate) throws Exception {
+        bh.consume(write(node, size, rate));
+    }
+
+    protected int write(Object value, AuxStateSize size, AuxStateThroughput rate) throws Exception {
+        NopOutputStream out = new NopOutputStream();
+        WRITER.writeValue(out, value);
+        final int len = out.size();
+        size.set(len);
+        rate.add(len);
+        return len;
+    }
+}
@@ -0,0 +1,17 @@
+package com.fasterxml.jackson.perf.toml;
+
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+
+import com.fasterxml.jackson.dataformat.toml.TomlMapper;
+import com.fasterxml.jackson.perf.WritePerfSinksJackson;
+import com.fasterxml.jackson.perf.model.MediaItem;
+
+@State(Scope.Thread)
+public class TOMLStdWriteSinks
+    extends WritePerfSinksJackson<MediaItem>
+{
+    public TOMLStdWriteSinks() {
+        super(new TomlMapper());
+    }
+}
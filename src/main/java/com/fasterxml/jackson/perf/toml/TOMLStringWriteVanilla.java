@@ -0,0 +1,21 @@
+package com.fasterxml.jackson.perf.toml;
+
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+
+import com.fasterxml.jackson.dataformat.toml.TomlMapper;
+import com.fasterxml.jackson.perf.WritePerfBaseStringJackson;
+import com.fasterxml.jackson.perf.model.MediaItem;
+
+/**
+ * Alternative version that writes output using {@link java.io.Writer}
+ * (or as {@link String}) instead of {@link java.io.OutputStream}.
+ */
+@State(Scope.Thread)
+public class TOMLStringWriteVanilla
+    extends WritePerfBaseStringJackson<MediaItem>
+{
+    public TOMLStringWriteVanilla() {
+        super(new TomlMapper());
+    }
+}
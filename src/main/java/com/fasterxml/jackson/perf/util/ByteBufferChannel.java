@@ -0,0 +1,52 @@
+package com.fasterxml.jackson.perf.util;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * {@link ReadableByteChannel} that reads contents of a {@link ByteBuffer}
+ * (heap or direct); usually wrapped using
+ * {@link java.nio.channels.Channels#newInputStream(ReadableByteChannel)}.
+ *<p>
+ * Buffer is not modified: reads are done from a duplicate.
+ */
+public class ByteBufferChannel implements ReadableByteChannel
+{
+    protected final ByteBuffer _buffer;
+
+    protected boolean _open = true;
+
+    public ByteBufferChannel(ByteBuffer buffer) {
+        _buffer = buffer.duplicate();
+    }
+
+    @Override
+    public int read(ByteBuffer dst)
+    {
+        if (!_buffer.hasRemaining()) {
+            return -1;
+        }
+        final int count = Math.min(dst.remaining(), _buffer.remaining());
+        if (count == _buffer.remaining()) {
+            dst.put(_buffer);
+        } else {
+            // casts to Buffer to link to Java 8 methods (not covariant overrides of 9+)
+            ByteBuffer src = _buffer.duplicate();
+            ((Buffer) src).limit(src.position() + count);
+            dst.put(src);
+            ((Buffer) _buffer).position(_buffer.position() + count);
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return _open;
+    }
+
+    @Override
+    public void close() {
+        _open = false;
+    }
+}
@@ -0,0 +1,82 @@
+package com.fasterxml.jackson.perf.util;
+
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link InputStream} that reads contents of one or more {@link ByteBuffer}s
+ * (heap, direct or memory-mapped) in sequence. Multiple buffers are needed
+ * for content longer than 2 gigabytes, since a single buffer can not be larger.
+ *<p>
+ * Buffers are not modified: reads are done from duplicates.
+ */
+public class ByteBufferInputStream extends InputStream
+{
+    protected final ByteBuffer[] _buffers;
+
+    protected int _index;
+
+    public ByteBufferInputStream(ByteBuffer... buffers)
+    {
+        _buffers = new ByteBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; ++i) {
+            _buffers[i] = buffers[i].duplicate();
+        }
+    }
+
+    @Override
+    public int read()
+    {
+        ByteBuffer buf = _current();
+        return (buf == null) ? -1 : (buf.get() & 0xFF);
+    }
+
+    @Override
+    public int read(byte[] b, int offset, int len)
+    {
+        if (len == 0) {
+            return 0;
+        }
+        ByteBuffer buf = _current();
+        if (buf == null) {
+            return -1;
+        }
+        len = Math.min(len, buf.remaining());
+        buf.get(b, offset, len);
+        return len;
+    }
+
+    @Override
+    public long skip(long n)
+    {
+        long skipped = 0L;
+        ByteBuffer buf;
+        while (skipped < n && (buf = _current()) != null) {
+            int count = (int) Math.min(n - skipped, buf.remaining());
+            // cast to Buffer to link to Java 8 method (not covariant override of 9+)
+            ((Buffer) buf).position(buf.position() + count);
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available()
+    {
+        ByteBuffer buf = _current();
+        return (buf == null) ? 0 : buf.remaining();
+    }
+
+    private ByteBuffer _current()
+    {
+        while (_index < _buffers.length) {
+            ByteBuffer buf = _buffers[_index];
+            if (buf.hasRemaining()) {
+                return buf;
+            }
+            ++_index;
+        }
+        return null;
+    }
+}
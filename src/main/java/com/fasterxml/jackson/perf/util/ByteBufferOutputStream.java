@@ -0,0 +1,59 @@
+package com.fasterxml.jackson.perf.util;
+
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link OutputStream} that writes into a {@link ByteBuffer} (heap or direct),
+ * replacing it with a buffer twice as big (of same kind) if it gets full.
+ * Buffer may be reused by calling {@link #reset}.
+ */
+public class ByteBufferOutputStream extends OutputStream
+{
+    protected ByteBuffer _buffer;
+
+    public ByteBufferOutputStream(ByteBuffer buffer) {
+        _buffer = buffer;
+    }
+
+    @Override
+    public void write(int b)
+    {
+        _ensureRoom(1);
+        _buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int offset, int len)
+    {
+        _ensureRoom(len);
+        _buffer.put(b, offset, len);
+    }
+
+    public ByteBufferOutputStream reset() {
+        // cast to Buffer to link to Java 8 method (not covariant override of 9+)
+        ((Buffer) _buffer).clear();
+        return this;
+    }
+
+    public int size() { return _buffer.position(); }
+
+    /**
+     * Accessor for the current buffer: note that it may change if contents
+     * do not fit.
+     */
+    public ByteBuffer buffer() { return _buffer; }
+
+    private void _ensureRoom(int len)
+    {
+        if (_buffer.remaining() < len) {
+            int newSize = Math.max(_buffer.capacity() * 2, _buffer.position() + len);
+            ByteBuffer newBuffer = _buffer.isDirect()
+                    ? ByteBuffer.allocateDirect(newSize) : ByteBuffer.allocate(newSize);
+            ((Buffer) _buffer).flip();
+            newBuffer.put(_buffer);
+            _buffer = newBuffer;
+        }
+    }
+}
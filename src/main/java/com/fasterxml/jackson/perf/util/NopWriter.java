@@ -5,18 +5,32 @@ import java.io.Writer;
 
 public class NopWriter extends Writer
 {
+    protected int size = 0;
+
+    public NopWriter() { }
+
+    @Override
+    public void write(int ch) throws IOException { ++size; }
+
     @Override
-    public void write(int ch) throws IOException { }
+    public void write(char[] cbuf) throws IOException { size += cbuf.length; }
 
     @Override
-    public void write(char[] cbuf) throws IOException { }
+    public void write(char[] cbuf, int off, int len) throws IOException { size += len; }
 
     @Override
-    public void write(char[] cbuf, int off, int len) throws IOException { }
+    public void write(String str, int off, int len) throws IOException { size += len; }
 
     @Override
     public void flush() throws IOException { }
 
     @Override
     public void close() throws IOException { }
+
+    public NopWriter reset() {
+        size = 0;
+        return this;
+    }
+
+    public int size() { return size; }
 }
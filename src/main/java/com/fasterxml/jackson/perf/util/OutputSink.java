@@ -0,0 +1,298 @@
+package com.fasterxml.jackson.perf.util;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Target for write tests: writes given value using given {@link ObjectWriter}
+ * and returns length of output. Different implementations represent different
+ * kinds of real-world output targets, selected using {@link Type}.
+ *<p>
+ * Instances are stateful (many reuse buffers) so they are not to be shared
+ * between threads.
+ */
+public abstract class OutputSink implements Closeable
+{
+    public enum Type {
+        /**
+         * Fresh {@link NopOutputStream} for every write: measures encoding
+         * cost with no copying.
+         */
+        NOP {
+            @Override
+            public OutputSink create() {
+                return new Nop();
+            }
+        },
+        /**
+         * Reused {@link ByteArrayOutputStream} (reset between writes)
+         */
+        REUSED_BAOS {
+            @Override
+            public OutputSink create() {
+                return new ReusedBAOS();
+            }
+        },
+        /**
+         * {@link ObjectWriter#writeValueAsBytes}
+         */
+        BYTES {
+            @Override
+            public OutputSink create() {
+                return new Bytes();
+            }
+        },
+        /**
+         * {@link ObjectWriter#writeValueAsString}: only works for textual formats;
+         * size reported as number of characters.
+         */
+        STRING {
+            @Override
+            public OutputSink create() {
+                return new AsString();
+            }
+        },
+        /**
+         * Reused direct {@link ByteBuffer} (via {@link ByteBufferOutputStream})
+         */
+        DIRECT_BUFFER {
+            @Override
+            public OutputSink create() {
+                return new DirectBuffer();
+            }
+        },
+        /**
+         * {@link FileChannel} of a temporary file, overwritten by every write
+         */
+        FILE_CHANNEL {
+            @Override
+            public OutputSink create() throws IOException {
+                return new ToFileChannel();
+            }
+        },
+        /**
+         * {@link BufferedOutputStream} (flushed after every write) over a stream
+         * that copies content into a fixed-size ring buffer, similar to
+         * socket send buffer (but without actual network access).
+         */
+        SOCKET {
+            @Override
+            public OutputSink create() {
+                return new SocketLike();
+            }
+        },
+        ;
+
+        public abstract OutputSink create() throws IOException;
+    }
+
+    /**
+     * Method for writing given value, returning length of output produced
+     * (usually in bytes).
+     */
+    public abstract int write(ObjectWriter w, Object value) throws IOException;
+
+    @Override
+    public void close() throws IOException { }
+
+    /*
+    /**********************************************************************
+    /* Implementations
+    /**********************************************************************
+     */
+
+    static class Nop extends OutputSink
+    {
+        @SuppressWarnings("resource")
+        @Override
+        public int write(ObjectWriter w, Object value) throws IOException {
+            NopOutputStream out = new NopOutputStream();
+            w.writeValue(out, value);
+            return out.size();
+        }
+    }
+
+    static class ReusedBAOS extends OutputSink
+    {
+        private final ByteArrayOutputStream _bytes = new ByteArrayOutputStream(16000);
+
+        @Override
+        public int write(ObjectWriter w, Object value) throws IOException {
+            _bytes.reset();
+            w.writeValue(_bytes, value);
+            return _bytes.size();
+        }
+    }
+
+    static class Bytes extends OutputSink
+    {
+        @Override
+        public int write(ObjectWriter w, Object value) throws IOException {
+            return w.writeValueAsBytes(value).length;
+        }
+    }
+
+    static class AsString extends OutputSink
+    {
+        @Override
+        public int write(ObjectWriter w, Object value) throws IOException {
+            return w.writeValueAsString(value).length();
+        }
+    }
+
+    static class DirectBuffer extends OutputSink
+    {
+        private final ByteBufferOutputStream _out
+            = new ByteBufferOutputStream(ByteBuffer.allocateDirect(16000));
+
+        @Override
+        public int write(ObjectWriter w, Object value) throws IOException {
+            w.writeValue(_out.reset(), value);
+            return _out.size();
+        }
+    }
+
+    static class ToFileChannel extends OutputSink
+    {
+        private final FileChannel _channel;
+
+        private final OutputStream _out;
+
+        public ToFileChannel() throws IOException {
+            File f = File.createTempFile("jackson-perf", ".out");
+            _channel = FileChannel.open(f.toPath(), StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DELETE_ON_CLOSE);
+            _out = new NonClosing(new ChannelOutputStream(_channel));
+        }
+
+        @Override
+        public int write(ObjectWriter w, Object value) throws IOException {
+            _channel.position(0L);
+            w.writeValue(_out, value);
+            return (int) _channel.position();
+        }
+
+        @Override
+        public void close() throws IOException {
+            _channel.close();
+        }
+    }
+
+    static class SocketLike extends OutputSink
+    {
+        private final SendBuffer _sendBuffer = new SendBuffer(64 * 1024);
+
+        private final OutputStream _out = new NonClosing(new BufferedOutputStream(_sendBuffer));
+
+        @Override
+        public int write(ObjectWriter w, Object value) throws IOException {
+            final long start = _sendBuffer.total;
+            w.writeValue(_out, value);
+            return (int) (_sendBuffer.total - start);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper streams
+    /**********************************************************************
+     */
+
+    /**
+     * Wrapper that flushes instead of closing, to allow reuse of the
+     * underlying stream (since {@code ObjectWriter} closes target by default).
+     */
+    static class NonClosing extends OutputStream
+    {
+        private final OutputStream _out;
+
+        NonClosing(OutputStream out) {
+            _out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException { _out.write(b); }
+
+        @Override
+        public void write(byte[] b, int offset, int len) throws IOException {
+            _out.write(b, offset, len);
+        }
+
+        @Override
+        public void flush() throws IOException { _out.flush(); }
+
+        @Override
+        public void close() throws IOException { _out.flush(); }
+    }
+
+    static class ChannelOutputStream extends OutputStream
+    {
+        private final FileChannel _channel;
+
+        ChannelOutputStream(FileChannel channel) {
+            _channel = channel;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int offset, int len) throws IOException {
+            ByteBuffer buf = ByteBuffer.wrap(b, offset, len);
+            while (buf.hasRemaining()) {
+                _channel.write(buf);
+            }
+        }
+    }
+
+    /**
+     * Stream that copies everything written into a fixed-size ring buffer.
+     */
+    static class SendBuffer extends OutputStream
+    {
+        private final byte[] _buffer;
+
+        private int _ptr;
+
+        long total;
+
+        SendBuffer(int size) {
+            _buffer = new byte[size];
+        }
+
+        @Override
+        public void write(int b) {
+            if (_ptr == _buffer.length) {
+                _ptr = 0;
+            }
+            _buffer[_ptr++] = (byte) b;
+            ++total;
+        }
+
+        @Override
+        public void write(byte[] b, int offset, int len) {
+            total += len;
+            while (len > 0) {
+                if (_ptr == _buffer.length) {
+                    _ptr = 0;
+                }
+                int count = Math.min(len, _buffer.length - _ptr);
+                System.arraycopy(b, offset, _buffer, _ptr, count);
+                _ptr += count;
+                offset += count;
+                len -= count;
+            }
+        }
+    }
+}
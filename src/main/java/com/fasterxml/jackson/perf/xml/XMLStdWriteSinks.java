@@ -0,0 +1,19 @@
+package com.fasterxml.jackson.perf.xml;
+
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.perf.WritePerfSinksJackson;
+import com.fasterxml.jackson.perf.model.MediaItem;
+
+@State(Scope.Thread)
+public class XMLStdWriteSinks
+    extends WritePerfSinksJackson<MediaItem>
+{
+    private static final ObjectMapper MAPPER = StaxProvider.xmlMapper();
+
+    public XMLStdWriteSinks() {
+        super(MAPPER);
+    }
+}
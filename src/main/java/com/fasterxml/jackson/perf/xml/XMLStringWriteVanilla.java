@@ -0,0 +1,20 @@
+package com.fasterxml.jackson.perf.xml;
+
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+
+import com.fasterxml.jackson.perf.WritePerfBaseStringJackson;
+import com.fasterxml.jackson.perf.model.MediaItem;
+
+/**
+ * Alternative version that writes output using {@link java.io.Writer}
+ * (or as {@link String}) instead of {@link java.io.OutputStream}.
+ */
+@State(Scope.Thread)
+public class XMLStringWriteVanilla
+    extends WritePerfBaseStringJackson<MediaItem>
+{
+    public XMLStringWriteVanilla() {
+        super(StaxProvider.xmlMapper());
+    }
+}
@@ -0,0 +1,17 @@
+package com.fasterxml.jackson.perf.yaml;
+
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.fasterxml.jackson.perf.WritePerfSinksJackson;
+import com.fasterxml.jackson.perf.model.MediaItem;
+
+@State(Scope.Thread)
+public class YAMLStdWriteSinks
+    extends WritePerfSinksJackson<MediaItem>
+{
+    public YAMLStdWriteSinks() {
+        super(new YAMLMapper());
+    }
+}
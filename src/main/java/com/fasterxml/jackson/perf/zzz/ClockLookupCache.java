@@ -0,0 +1,121 @@
+package com.fasterxml.jackson.perf.zzz;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.util.LookupCache;
+
+/**
+ * {@link LookupCache} that uses CLOCK ("second chance") eviction: entries are
+ * kept in a {@link ConcurrentHashMap}, and a lookup only sets "referenced" flag
+ * of the entry (if not yet set), without locking. Insertions are serialized:
+ * when full, the clock hand sweeps over entries in insertion order, clearing
+ * flags, until it finds an entry not referenced since the previous sweep,
+ * which is then replaced.
+ */
+public final class ClockLookupCache<K, V> implements LookupCache<K, V>
+{
+    private final static class Entry<V>
+    {
+        final V value;
+
+        volatile boolean referenced;
+
+        Entry(V value) {
+            this.value = value;
+        }
+    }
+
+    private final ConcurrentHashMap<K, Entry<V>> _map;
+
+    /**
+     * Keys in clock order; guarded by lock of this cache
+     */
+    private final Object[] _keys;
+
+    private int _size;
+
+    private int _hand;
+
+    public ClockLookupCache(int maxEntries) {
+        _map = new ConcurrentHashMap<>(maxEntries, 0.8f, 4);
+        _keys = new Object[maxEntries];
+    }
+
+    @Override
+    public int size() {
+        return _map.size();
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        Entry<V> entry = _map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        // avoid writes (and cache line invalidation) for entries already marked
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry.value;
+    }
+
+    @Override
+    public synchronized V put(K key, V value)
+    {
+        Entry<V> old = _map.get(key);
+        if (old != null) { // same key, so keeps its position in clock
+            _map.put(key, new Entry<>(value));
+            return old.value;
+        }
+        _insert(key, value);
+        return null;
+    }
+
+    @Override
+    public synchronized V putIfAbsent(K key, V value)
+    {
+        Entry<V> old = _map.get(key);
+        if (old != null) {
+            old.referenced = true;
+            return old.value;
+        }
+        _insert(key, value);
+        return null;
+    }
+
+    @Override
+    public synchronized void clear() {
+        _map.clear();
+        Arrays.fill(_keys, null);
+        _size = 0;
+        _hand = 0;
+    }
+
+    private void _insert(K key, V value)
+    {
+        final int slot = (_size < _keys.length) ? _size++ : _evict();
+        _keys[slot] = key;
+        _map.put(key, new Entry<>(value));
+    }
+
+    /**
+     * @return Index of the slot freed
+     */
+    private int _evict()
+    {
+        while (true) {
+            final int ix = _hand;
+            _hand = (ix + 1 == _keys.length) ? 0 : ix + 1;
+            final Object key = _keys[ix];
+            Entry<V> entry = _map.get(key);
+            if (entry.referenced) {
+                entry.referenced = false;
+            } else {
+                _map.remove(key);
+                return ix;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.fasterxml.jackson.perf.zzz;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.util.LookupCache;
+
+/**
+ * {@link LookupCache} backed by a plain {@link ConcurrentHashMap}: lookups are
+ * lock-free and do no bookkeeping at all; when the maximum size is reached,
+ * all entries are flushed (same as {@code LRUMap} did before Jackson 2.14).
+ */
+public final class ConcurrentLookupCache<K, V> implements LookupCache<K, V>
+{
+    private final int _maxEntries;
+
+    private final ConcurrentHashMap<K, V> _map;
+
+    public ConcurrentLookupCache(int initialEntries, int maxEntries) {
+        _maxEntries = maxEntries;
+        _map = new ConcurrentHashMap<>(initialEntries, 0.8f, 4);
+    }
+
+    @Override
+    public int size() {
+        return _map.size();
+    }
+
+    @Override
+    public V get(Object key) {
+        return _map.get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        if (_map.size() >= _maxEntries) {
+            _map.clear();
+        }
+        return _map.put(key, value);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        if (_map.size() >= _maxEntries) {
+            _map.clear();
+        }
+        return _map.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void clear() {
+        _map.clear();
+    }
+}
@@ -18,9 +18,21 @@ import org.openjdk.jmh.annotations.State;
 
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
+/**
+ * Tests for resolving types with {@link TypeFactory} using different type
+ * caches. State is shared, so running with multiple threads measures contention
+ * on the cache hit path; for example, to run with 1 - 64 threads:
+ *<pre>
+ *  java -cp target/perf.jar com.fasterxml.jackson.perf.concurrent.ThreadScalingRunner 64 JavaTypeResolution
+ *</pre>
+ */
 @State(Scope.Benchmark)
 public class JavaTypeResolution
 {
+    /**
+     * Same maximum size as the default {@code TypeFactory} cache has
+     */
+    private static final int MAX_CACHE_ENTRIES = 200;
 
     @Param
     public CacheMode cache;
@@ -80,6 +92,36 @@ public class JavaTypeResolution
             TypeFactory apply(TypeFactory input) {
                 return input.withCache(NoCacheLookupCache.INSTANCE);
             }
+        },
+        /**
+         * Lock-free {@code ConcurrentHashMap}, flushed when full
+         */
+        @SuppressWarnings("unused") // used by JMH
+        CONCURRENT() {
+            @Override
+            TypeFactory apply(TypeFactory input) {
+                return input.withCache(new ConcurrentLookupCache<Object, JavaType>(16, MAX_CACHE_ENTRIES));
+            }
+        },
+        /**
+         * LRU split into 16 separately locked stripes
+         */
+        @SuppressWarnings("unused") // used by JMH
+        STRIPED_LRU() {
+            @Override
+            TypeFactory apply(TypeFactory input) {
+                return input.withCache(new StripedLRULookupCache<Object, JavaType>(16, MAX_CACHE_ENTRIES));
+            }
+        },
+        /**
+         * CLOCK (second chance) eviction, lock-free lookups
+         */
+        @SuppressWarnings("unused") // used by JMH
+        CLOCK() {
+            @Override
+            TypeFactory apply(TypeFactory input) {
+                return input.withCache(new ClockLookupCache<Object, JavaType>(MAX_CACHE_ENTRIES));
+            }
         };
 
         abstract TypeFactory apply(TypeFactory input);
@@ -0,0 +1,100 @@
+package com.fasterxml.jackson.perf.zzz;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.util.LookupCache;
+
+/**
+ * {@link LookupCache} split into a fixed number of stripes (by key hash), each
+ * of which is an access-ordered (LRU) {@link LinkedHashMap} guarded by its own
+ * lock. Since LRU ordering is updated on every access, lookups also need to
+ * lock; striping only reduces contention between lookups of different keys.
+ */
+public final class StripedLRULookupCache<K, V> implements LookupCache<K, V>
+{
+    private final Stripe<K, V>[] _stripes;
+
+    private final int _mask;
+
+    @SuppressWarnings("unchecked")
+    public StripedLRULookupCache(int stripeCount, int maxEntries)
+    {
+        if (Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("Stripe count must be a power of two, not "+stripeCount);
+        }
+        _stripes = (Stripe<K, V>[]) new Stripe<?, ?>[stripeCount];
+        final int maxPerStripe = Math.max(1, maxEntries / stripeCount);
+        for (int i = 0; i < stripeCount; ++i) {
+            _stripes[i] = new Stripe<>(maxPerStripe);
+        }
+        _mask = stripeCount - 1;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : _stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public V get(Object key) {
+        final Stripe<K, V> stripe = _stripe(key);
+        synchronized (stripe) {
+            return stripe.get(key);
+        }
+    }
+
+    @Override
+    public V put(K key, V value) {
+        final Stripe<K, V> stripe = _stripe(key);
+        synchronized (stripe) {
+            return stripe.put(key, value);
+        }
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        final Stripe<K, V> stripe = _stripe(key);
+        synchronized (stripe) {
+            return stripe.putIfAbsent(key, value);
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Stripe<K, V> stripe : _stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    private Stripe<K, V> _stripe(Object key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return _stripes[h & _mask];
+    }
+
+    private static final class Stripe<K, V> extends LinkedHashMap<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int _maxEntries;
+
+        Stripe(int maxEntries) {
+            super(16, 0.75f, true);
+            _maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > _maxEntries;
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.fasterxml.jackson.perf.flow;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.perf.model.MediaItem;
+import com.fasterxml.jackson.perf.model.MediaItems;
+
+/**
+ * Benchmark for decoding NDJSON content in a reactive ({@link java.util.concurrent.Flow})
+ * pipeline: a {@link Flow.Publisher} emits content in byte chunks, which a
+ * {@link Flow.Processor} feeds to a non-blocking JSON parser (same as used by
+ * {@code JsonStdReadAsync}), binding each complete record as {@code MediaItem}
+ * and passing it downstream; both stages honor back-pressure (demand).
+ * Compared to reading the same content using a blocking {@link MappingIterator}.
+ *<p>
+ * Primary score is NDJSON documents per second; secondary {@code records} score
+ * records per second. Use {@code -prof gc} for allocation: {@code gc.alloc.rate.norm}
+ * is per document, so divide by {@code records} for allocation per record.
+ *<p>
+ * Requires JDK 21: build with {@code mvn -Pjdk21 package}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FlowNdjsonRead
+{
+    /**
+     * Counter for records decoded; with {@code Throughput} mode reported as
+     * records per second.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class RecordCount
+    {
+        public long records;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            records = 0L;
+        }
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Number of {@code MediaItem} records in NDJSON document
+     */
+    @Param({ "1000" })
+    public int records;
+
+    /**
+     * Size of chunks publisher emits
+     */
+    @Param({ "256", "4096", "65536" })
+    public int chunkSize;
+
+    /**
+     * Number of records subscriber requests at a time
+     */
+    @Param({ "64" })
+    public int batchSize;
+
+    protected ObjectReader MEDIA_ITEM_READER;
+
+    protected byte[] ndjson;
+
+    protected List<byte[]> chunks;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        MEDIA_ITEM_READER = MAPPER.readerFor(MediaItem.class);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        MediaItem item = MediaItems.stdMediaItem();
+        try (SequenceWriter w = MAPPER.writer().withRootValueSeparator("\n").writeValues(bytes)) {
+            for (int i = 0; i < records; ++i) {
+                w.write(item);
+            }
+        }
+        bytes.write('\n');
+        ndjson = bytes.toByteArray();
+        chunks = new ArrayList<>();
+        for (int offset = 0; offset < ndjson.length; offset += chunkSize) {
+            chunks.add(Arrays.copyOfRange(ndjson, offset, Math.min(ndjson.length, offset + chunkSize)));
+        }
+    }
+
+    @Benchmark
+    public void readFlow(Blackhole bh, RecordCount count) throws Exception
+    {
+        NdjsonDecoder<MediaItem> decoder = new NdjsonDecoder<>(MAPPER.getFactory(), MEDIA_ITEM_READER);
+        ConsumingSubscriber subscriber = new ConsumingSubscriber(bh, batchSize);
+        new ChunkPublisher(chunks).subscribe(decoder);
+        decoder.subscribe(subscriber);
+        // all stages are synchronous so processing is complete by now
+        if (subscriber.failure != null) {
+            throw new IllegalStateException(subscriber.failure);
+        }
+        if (!subscriber.completed) {
+            throw new IllegalStateException("Flow did not complete");
+        }
+        count.records += subscriber.count;
+    }
+
+    @Benchmark
+    public void readMappingIterator(Blackhole bh, RecordCount count) throws Exception
+    {
+        try (MappingIterator<MediaItem> it = MEDIA_ITEM_READER.readValues(ndjson)) {
+            while (it.hasNextValue()) {
+                bh.consume(it.nextValue());
+                ++count.records;
+            }
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Flow stages
+    /**********************************************************************
+     */
+
+    /**
+     * Publisher that emits pre-split chunks synchronously, on demand.
+     */
+    static class ChunkPublisher implements Flow.Publisher<byte[]>
+    {
+        private final List<byte[]> _chunks;
+
+        ChunkPublisher(List<byte[]> chunks) {
+            _chunks = chunks;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super byte[]> subscriber)
+        {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private int _index;
+                private long _demand;
+                private boolean _emitting, _done;
+
+                @Override
+                public void request(long n) {
+                    _demand += n;
+                    // guard against re-entrant calls from onNext()
+                    if (_emitting) {
+                        return;
+                    }
+                    _emitting = true;
+                    while (_demand > 0L && _index < _chunks.size()) {
+                        --_demand;
+                        subscriber.onNext(_chunks.get(_index++));
+                    }
+                    if (_index == _chunks.size() && !_done) {
+                        _done = true;
+                        subscriber.onComplete();
+                    }
+                    _emitting = false;
+                }
+
+                @Override
+                public void cancel() {
+                    _index = _chunks.size();
+                    _done = true;
+                }
+            });
+        }
+    }
+
+    /**
+     * Processor that decodes NDJSON chunks into values, using non-blocking
+     * parser and buffering tokens of each record in a {@link TokenBuffer}
+     * for data-binding. Requests one chunk at a time from upstream, and only
+     * when downstream has unmet demand.
+     */
+    static class NdjsonDecoder<T> implements Flow.Processor<byte[], T>, Flow.Subscription
+    {
+        private final ObjectReader _reader;
+
+        private final JsonParser _parser;
+
+        private TokenBuffer _tokens;
+
+        private Flow.Subscription _upstream;
+
+        private Flow.Subscriber<? super T> _downstream;
+
+        private long _demand;
+
+        private boolean _draining, _chunkRequested, _upstreamDone, _done;
+
+        NdjsonDecoder(JsonFactory f, ObjectReader reader) throws IOException {
+            _reader = reader;
+            _parser = f.createNonBlockingByteArrayParser();
+            _tokens = new TokenBuffer(null, false);
+        }
+
+        // // Subscriber (upstream side)
+
+        @Override
+        public void onSubscribe(Flow.Subscription s) {
+            _upstream = s;
+        }
+
+        @Override
+        public void onNext(byte[] chunk) {
+            _chunkRequested = false;
+            try {
+                ((ByteArrayFeeder) _parser.getNonBlockingInputFeeder()).feedInput(chunk, 0, chunk.length);
+            } catch (IOException e) {
+                onError(e);
+                return;
+            }
+            _drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (!_done) {
+                _done = true;
+                _upstream.cancel();
+                _downstream.onError(t);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            _upstreamDone = true;
+            _chunkRequested = false;
+            _parser.getNonBlockingInputFeeder().endOfInput();
+            _drain();
+        }
+
+        // // Publisher (downstream side)
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            _downstream = subscriber;
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+            _demand += n;
+            _drain();
+        }
+
+        @Override
+        public void cancel() {
+            _done = true;
+            _upstream.cancel();
+        }
+
+        // // Decoding
+
+        private void _drain()
+        {
+            if (_draining) {
+                return;
+            }
+            _draining = true;
+            try {
+                while (!_done && _demand > 0L) {
+                    T value = _nextRecord();
+                    if (value != null) {
+                        --_demand;
+                        _downstream.onNext(value);
+                    } else if (_parser.isClosed() || _upstreamDone) {
+                        _done = true;
+                        _parser.close();
+                        _downstream.onComplete();
+                    } else if (!_chunkRequested) {
+                        _chunkRequested = true;
+                        _upstream.request(1L);
+                        // if upstream is asynchronous, continue from onNext()
+                        if (_chunkRequested) {
+                            break;
+                        }
+                    } else {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                _done = true;
+                _upstream.cancel();
+                _downstream.onError(e);
+            } finally {
+                _draining = false;
+            }
+        }
+
+        /**
+         * @return Next complete record, if one available; {@code null} if
+         *    more input needed (or end of input reached)
+         */
+        private T _nextRecord() throws IOException
+        {
+            JsonToken t;
+            while ((t = _parser.nextToken()) != null) {
+                if (t == JsonToken.NOT_AVAILABLE) {
+                    return null;
+                }
+                _tokens.copyCurrentEvent(_parser);
+                if (_parser.getParsingContext().inRoot()) {
+                    T value;
+                    try (JsonParser p = _tokens.asParser()) {
+                        value = _reader.readValue(p);
+                    }
+                    _tokens = new TokenBuffer(null, false);
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Terminal subscriber that consumes records, requesting them in batches.
+     */
+    static class ConsumingSubscriber implements Flow.Subscriber<Object>
+    {
+        private final Blackhole _bh;
+
+        private final int _batchSize;
+
+        private Flow.Subscription _subscription;
+
+        private int _remaining;
+
+        long count;
+
+        boolean completed;
+
+        Throwable failure;
+
+        ConsumingSubscriber(Blackhole bh, int batchSize) {
+            _bh = bh;
+            _batchSize = batchSize;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription s) {
+            _subscription = s;
+            _remaining = _batchSize;
+            s.request(_batchSize);
+        }
+
+        @Override
+        public void onNext(Object item) {
+            _bh.consume(item);
+            ++count;
+            if (--_remaining == 0) {
+                _remaining = _batchSize;
+                _subscription.request(_batchSize);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            failure = t;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.fasterxml.jackson.perf.vthreads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.perf.data.DataFormat;
+import com.fasterxml.jackson.perf.data.InputConverter;
+import com.fasterxml.jackson.perf.model.MediaItem;
+import com.fasterxml.jackson.perf.model.MediaItems;
+import com.fasterxml.jackson.perf.util.NopOutputStream;
+
+/**
+ * Benchmark in which each operation submits N concurrent {@code MediaItem}
+ * read (or write) tasks to an executor -- either one that creates a new
+ * virtual thread per task, or a fixed pool of platform threads -- and waits
+ * for all of them to complete.
+ *<p>
+ * Measured both for throughput and latency (sampled); use {@code -prof gc}
+ * for allocation rates. Note that with virtual threads {@code ThreadLocal}-based
+ * buffer recycling is effectively disabled since every task runs on a new thread.
+ *<p>
+ * Requires JDK 21: build with {@code mvn -Pjdk21 package}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExecutorReadWrite
+{
+    public enum ExecutorType {
+        VIRTUAL() {
+            @Override
+            ExecutorService create() {
+                return Executors.newVirtualThreadPerTaskExecutor();
+            }
+        },
+        PLATFORM() {
+            @Override
+            ExecutorService create() {
+                return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            }
+        },
+        ;
+
+        abstract ExecutorService create();
+    }
+
+    @Param
+    public ExecutorType executor;
+
+    @Param({ "JSON", "SMILE", "CBOR" })
+    public DataFormat format;
+
+    /**
+     * Number of concurrent tasks submitted per operation
+     */
+    @Param({ "16", "256" })
+    public int tasks;
+
+    private ExecutorService _executor;
+
+    private List<Callable<Object>> _readTasks;
+
+    private List<Callable<Object>> _writeTasks;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        _executor = executor.create();
+
+        final ObjectMapper mapper = format.newMapper();
+        final ObjectReader reader = mapper.readerFor(MediaItem.class);
+        final ObjectWriter writer = mapper.writerFor(MediaItem.class);
+        final MediaItem item = MediaItems.stdMediaItem();
+        final byte[] input = InputConverter.stdConverter(mapper).mediaItemAsBytes();
+
+        final Callable<Object> readTask = () -> reader.readValue(input);
+        final Callable<Object> writeTask = () -> {
+            NopOutputStream out = new NopOutputStream();
+            writer.writeValue(out, item);
+            return out.size();
+        };
+        _readTasks = new ArrayList<>(tasks);
+        _writeTasks = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; ++i) {
+            _readTasks.add(readTask);
+            _writeTasks.add(writeTask);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        _executor.shutdownNow();
+        _executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void readPojoMediaItem(Blackhole bh) throws Exception {
+        _runAll(_readTasks, bh);
+    }
+
+    @Benchmark
+    public void writePojoMediaItem(Blackhole bh) throws Exception {
+        _runAll(_writeTasks, bh);
+    }
+
+    private void _runAll(List<Callable<Object>> taskList, Blackhole bh) throws Exception {
+        for (Future<Object> f : _executor.invokeAll(taskList)) {
+            bh.consume(f.get());
+        }
+    }
+}
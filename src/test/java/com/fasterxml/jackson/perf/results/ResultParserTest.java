@@ -0,0 +1,78 @@
+package com.fasterxml.jackson.perf.results;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import junit.framework.TestCase;
+
+public class ResultParserTest extends TestCase
+{
+    public void testTextResults() throws Exception
+    {
+        final String TEXT = "Read - Vanilla / 2.11.2 / home\n"
+                +"java -Xmx256m -jar target/microbenchmarks.jar \".*StdReadVan.*PojoMedia.*\"\n"
+                +"Benchmark                                          Mode  Cnt       Score      Error  Units\n"
+                +"c.f.j.p.json.JsonStdReadVanilla.readPojoMediaItem thrpt   15  589573.881 ± 4917.459  ops/s\n"
+                +"c.f.j.p.json.JsonStdReadVanilla.readPojoMediaItem:size thrpt 15 489.000  #\n"
+                // old JMH output, no "±"
+                +"c.f.j.p.s.SmileStdReadVanilla.readPojoMediaItem   thrpt        95   469865.272     2959.308    ops/s\n"
+                // with parameter column
+                +"SharedMapperScaling.readPojoMediaItem      JSON  thrpt    5  1234.5 ± 10.5  ops/s\n"
+                // parameter of other benchmark in the same run
+                +"JsonStdWriteVanilla.writePojoMediaItem      N/A  thrpt    5  4321.5 ± 10.5  ops/s\n";
+        ResultSet results = ResultParser.parseText("test", new StringReader(TEXT));
+        assertEquals(4, results.size());
+
+        BenchmarkScore score = results.get("JsonStdReadVanilla.readPojoMediaItem");
+        assertNotNull(score);
+        assertEquals("thrpt", score.mode);
+        assertEquals(15, score.count);
+        assertEquals(589573.881, score.score);
+        assertEquals(4917.459, score.error);
+        assertEquals("ops/s", score.unit);
+
+        score = results.get("SmileStdReadVanilla.readPojoMediaItem");
+        assertNotNull(score);
+        assertEquals(95, score.count);
+        assertEquals(2959.308, score.error);
+
+        score = results.get("SharedMapperScaling.readPojoMediaItem JSON");
+        assertNotNull(score);
+        assertEquals(1234.5, score.score);
+
+        score = results.get("JsonStdWriteVanilla.writePojoMediaItem");
+        assertNotNull(score);
+        assertEquals(4321.5, score.score);
+    }
+
+    public void testJmhJsonResults() throws Exception
+    {
+        final String JSON = "[{\"benchmark\":\"com.fasterxml.jackson.perf.json.JsonStdReadVanilla.readPojoMediaItem\","
+                +"\"mode\":\"thrpt\",\"params\":{\"format\":\"JSON\"},"
+                +"\"primaryMetric\":{\"score\":100.0,\"scoreError\":\"NaN\",\"scoreUnit\":\"ops/s\","
+                +"\"rawData\":[[99.0,101.0]]}}]";
+        ResultSet results = ResultParser.parseJmhJson("test",
+                new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)));
+        BenchmarkScore score = results.get("JsonStdReadVanilla.readPojoMediaItem JSON");
+        assertNotNull(score);
+        assertEquals(2, score.count);
+        assertEquals(100.0, score.score);
+        assertTrue(Double.isNaN(score.error));
+    }
+
+    public void testRegressionVerdicts()
+    {
+        RegressionDetector detector = new RegressionDetector(5.0);
+        BenchmarkScore base = new BenchmarkScore("a", "thrpt", 10, 1000.0, 10.0, "ops/s");
+        assertEquals(RegressionDetector.Verdict.REGRESSION,
+                detector.compare(base, new BenchmarkScore("a", "thrpt", 10, 900.0, 10.0, "ops/s")));
+        // within error bounds
+        assertEquals(RegressionDetector.Verdict.NO_CHANGE,
+                detector.compare(base, new BenchmarkScore("a", "thrpt", 10, 900.0, 95.0, "ops/s")));
+        // lower is better for time-per-op
+        base = new BenchmarkScore("a", "avgt", 10, 1000.0, 10.0, "us/op");
+        assertEquals(RegressionDetector.Verdict.IMPROVEMENT,
+                detector.compare(base, new BenchmarkScore("a", "avgt", 10, 900.0, 10.0, "us/op")));
+    }
+}